@@ -0,0 +1,125 @@
+package benchmark;
+
+import model.SimplePerson;
+import model.interfaces.Player;
+import util.StringHelpers;
+import viewmodel.PersonList;
+import viewmodel.RankedSet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Looking up a player's position in the sorted player list, as {@link PersonList#getPersonIndex(Player)}
+ * does for every wrapper, summary table row and {@code get(Player)}: the previous synchronized
+ * {@code TreeSet.headSet(player).size()} against {@link RankedSet#indexOf(Object)}, plus adding and
+ * removing a player, at 10k and 100k players; then loading a 10k player roster one player at a
+ * time and with {@link PersonList#addAll(java.util.Collection)}.
+ * <p>
+ * Usage: {@code PersonListBenchmark [filter]}
+ */
+public class PersonListBenchmark {
+   private static final Comparator<Player> BY_ID = new Comparator<Player>() {
+      @Override
+      public int compare(Player o1, Player o2) {
+         return Integer.compare(StringHelpers.stringAsInt(o1.getPersonId(), -1),
+               StringHelpers.stringAsInt(o2.getPersonId(), -1));
+      }
+   };
+
+   public static void main(String[] args) {
+      Harness harness = new Harness();
+      for (int count : new int[]{10_000, 100_000}) {
+         Player[] players = new Player[count];
+         SortedSet<Player> treeSet = Collections.synchronizedSortedSet(new TreeSet<>(BY_ID));
+         RankedSet<Player> rankedSet = new RankedSet<>(BY_ID);
+         for (int i = 0; i < count; i++) {
+            players[i] = new SimplePerson(String.valueOf(i), "Player " + i, 1000);
+            treeSet.add(players[i]);
+            rankedSet.add(players[i]);
+         }
+         String size = " (" + count / 1000 + "k)";
+
+         harness.add("TreeSet.headSet().size()" + size, new Harness.Case() {
+            @Override
+            public long run(int ops) {
+               long total = 0;
+               for (int i = 0; i < ops; i++) {
+                  Player player = players[(i * 7919) % players.length];
+                  total += treeSet.contains(player) ? treeSet.headSet(player).size() : -1;
+               }
+               return total;
+            }
+         });
+         harness.add("RankedSet.indexOf" + size, new Harness.Case() {
+            @Override
+            public long run(int ops) {
+               long total = 0;
+               for (int i = 0; i < ops; i++) {
+                  total += rankedSet.indexOf(players[(i * 7919) % players.length]);
+               }
+               return total;
+            }
+         });
+         harness.add("TreeSet remove+add" + size, new Harness.Case() {
+            @Override
+            public long run(int ops) {
+               long total = 0;
+               for (int i = 0; i < ops; i++) {
+                  Player player = players[(i * 7919) % players.length];
+                  treeSet.remove(player);
+                  total += treeSet.add(player) ? 1 : 0;
+               }
+               return total;
+            }
+         });
+         harness.add("RankedSet remove+add" + size, new Harness.Case() {
+            @Override
+            public long run(int ops) {
+               long total = 0;
+               for (int i = 0; i < ops; i++) {
+                  Player player = players[(i * 7919) % players.length];
+                  rankedSet.remove(player);
+                  total += rankedSet.add(player) ? 1 : 0;
+               }
+               return total;
+            }
+         });
+      }
+
+      // loading a roster: one event per player, against one coalesced event
+      Player[] roster = new Player[10_000];
+      for (int i = 0; i < roster.length; i++) {
+         roster[i] = new SimplePerson(String.valueOf(i), "Player " + i, 1000);
+      }
+      harness.add("PersonList.get per player (10k roster)", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               PersonList personList = new PersonList();
+               for (Player player : roster) {
+                  personList.get(player);
+               }
+               total += personList.getListReference().size();
+            }
+            return total;
+         }
+      });
+      harness.add("PersonList.addAll (10k roster)", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               PersonList personList = new PersonList();
+               total += personList.addAll(Arrays.asList(roster)).size();
+            }
+            return total;
+         }
+      });
+      harness.run(args.length > 0 ? args[0] : null);
+   }
+}
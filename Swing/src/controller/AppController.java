@@ -2,6 +2,7 @@ package controller;
 
 import controller.listeners.*;
 import model.BlackEngineImplEx;
+import model.management.TableManagement;
 import view.AppView;
 import viewmodel.PersonList;
 
@@ -22,6 +23,8 @@ public class AppController {
       this.model = model;
       this.appView = appView;
       this.executor = model.getExecutor();
+      // lets operations inspect, pause and drain the table over JMX (e.g. with jconsole)
+      TableManagement.register("Swing", model);
       initController();
    }
 
@@ -1,6 +1,7 @@
 package controller.listeners;
 
 import model.BlackEngineImplEx;
+import viewmodel.PersonAttribute;
 import viewmodel.PersonWrapper;
 import view.AppView;
 
@@ -26,7 +27,7 @@ public class PlayerSelectionChangeListener implements ItemListener {
          int playerIndex = appView.getPersonSelection().getSelectedIndex();
          PersonWrapper player = model.getPersonList().at(playerIndex);
          appView.activatePersonPanel(player);
-         appView.onSetBetEnabled(!player.isDealer() && !player.has("dealt"));
+         appView.onSetBetEnabled(!player.isDealer() && !player.has(PersonAttribute.DEALT));
       }
    }
 }
@@ -1,6 +1,7 @@
 package controller.listeners;
 
 import model.BlackEngineImplEx;
+import viewmodel.PersonAttribute;
 import viewmodel.PersonWrapper;
 import util.StringHelpers;
 import view.AppView;
@@ -26,10 +27,10 @@ public class SetBetButtonListener implements ActionListener {
          JOptionPane.showMessageDialog(null, "Invalid value for bet", "Error", JOptionPane.INFORMATION_MESSAGE);
          return;
       }
-      if (model.getPersonList().getDealer().has("dealt")) {
+      if (model.getPersonList().getDealer().has(PersonAttribute.DEALT)) {
          for (PersonWrapper pw : model.getPersonList().withoutDealer())
-            pw.has("dealt", false);
-         model.getPersonList().getDealer().has("dealt", false);
+            pw.has(PersonAttribute.DEALT, false);
+         model.getPersonList().getDealer().has(PersonAttribute.DEALT, false);
          appView.setStatus("A new round has just begun");
          appView.clearBets();
       }
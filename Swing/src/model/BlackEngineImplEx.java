@@ -3,9 +3,15 @@ package model;
 import controller.listeners.MenuItemPlayerListener;
 import model.interfaces.BlackEngine;
 import model.interfaces.Player;
+import model.management.DealGate;
+import model.management.ManagedTable;
+import model.management.TableManagement;
+import model.management.TableMonitor;
+import model.management.TableSnapshot;
 import view.BlackEngineCallbackGuiEx;
 import view.BlackEngineCallbackGui;
 import view.interfaces.BlackEngineCallback;
+import viewmodel.PersonAttribute;
 import viewmodel.PersonList;
 import viewmodel.PersonWrapper;
 
@@ -14,13 +20,15 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 
 // Item 18: Favor composition over inheritance [Bloch17]
 // Wrapper class - uses composition in place of inheritance
-public class BlackEngineImplEx extends ForwardingGameEngine {
+public class BlackEngineImplEx extends ForwardingGameEngine implements ManagedTable {
 
    protected final Set<BlackEngineCallbackGuiEx> gameEngineCallbacks = new LinkedHashSet<>();
    private final PersonList playerList = new PersonList();
@@ -29,9 +37,51 @@ public class BlackEngineImplEx extends ForwardingGameEngine {
    // **without** having multiple things happen at once.
    private final Executor executor;
 
+   // cached state and pause/drain control for TableManagement (JMX)
+   private final TableMonitor monitor = new TableMonitor();
+   private final DealGate dealGate = new DealGate();
+
    public BlackEngineImplEx(BlackEngine gameEngine) {
+      // same as Executors.newSingleThreadExecutor(), but the queue depth can be read
+      this(gameEngine, new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>()));
+   }
+
+   /**
+    * @param gameEngine engine to wrap
+    * @param executor   a serial executor to queue work on, e.g. {@link model.host.Table#getExecutor()}
+    *                   when the table is hosted by a {@link model.host.TableHost}
+    */
+   public BlackEngineImplEx(BlackEngine gameEngine, Executor executor) {
       super(gameEngine);
-      executor = Executors.newSingleThreadExecutor();
+      this.executor = executor;
+      super.addBlackEngineCallback(monitor);
+      monitor.refresh(getAllPersons());
+   }
+
+   /**
+    * Waits while dealing is paused through {@link TableManagement}
+    */
+   @Override
+   public void dealPerson(Player player, int delay) throws IllegalArgumentException {
+      dealGate.enter();
+      try {
+         super.dealPerson(player, delay);
+      } finally {
+         dealGate.exit();
+      }
+   }
+
+   /**
+    * Waits while dealing is paused through {@link TableManagement}
+    */
+   @Override
+   public void dealHouse(int delay) throws IllegalArgumentException {
+      dealGate.enter();
+      try {
+         super.dealHouse(delay);
+      } finally {
+         dealGate.exit();
+      }
    }
 
    @Override
@@ -44,6 +94,7 @@ public class BlackEngineImplEx extends ForwardingGameEngine {
       // This is just to increase the UI usability.  Removing the last results when a
       // player makes a new bet makes it more obvious in the summary table.
       player.setResult(0);
+      monitor.refresh(getAllPersons());
       return result;
    }
 
@@ -57,12 +108,15 @@ public class BlackEngineImplEx extends ForwardingGameEngine {
       // PersonList.from will detect that `player` is new, and notify
       // interested observers.
       playerList.get(player);
+      monitor.refresh(getAllPersons());
    }
 
    @Override
    public boolean removePerson(Player player) {
       // PersonList.from will notify interested observers that player has been removed
-      return super.removePerson(player) && playerList.get(player).remove();
+      boolean removed = super.removePerson(player) && playerList.get(player).remove();
+      monitor.refresh(getAllPersons());
+      return removed;
    }
 
    /**
@@ -80,15 +134,12 @@ public class BlackEngineImplEx extends ForwardingGameEngine {
       }
 
       if (!dealt) {
-         player.has("dealt", false);
+         player.has(PersonAttribute.DEALT, false);
          return;
       }
 
-      player.has("dealt", true);
-      int playersLeft =
-            playerList.getAll().size()
-                  - playerList.thatHave("dealt").size()
-                  - 1;
+      player.has(PersonAttribute.DEALT, true);
+      int playersLeft = getPlayersLeftToDeal();
 
       if (setStatus != null && playersLeft > 0) {
          // make a comma separated list of the players remaining to be dealt.
@@ -120,7 +171,7 @@ public class BlackEngineImplEx extends ForwardingGameEngine {
 
    // used in reduce()
    private String accumulateUnDealtPersons(String s, PersonWrapper player1) {
-      if (!player1.isDealer() && !player1.has("dealt")) {
+      if (!player1.isDealer() && !player1.has(PersonAttribute.DEALT)) {
          return combinePersonNames(s, "<b>" + player1.getPersonName() + "</b>");
       }
       return s;
@@ -133,14 +184,18 @@ public class BlackEngineImplEx extends ForwardingGameEngine {
     * @return true if all players have been dealt cards this round
     */
    public boolean isEveryoneDealt() {
-      int playerCount = 0;
-      for (PersonWrapper player : playerList.withoutDealer()) {
-         playerCount ++;
-         if (!player.has("dealt")) {
-            return false;
-         }
-      }
-      return (playerCount > 0);
+      return playerList.size() > 1 && getPlayersLeftToDeal() == 0;
+   }
+
+   /**
+    * @return number of players, not counting the dealer, not yet dealt this round. O(1), from the
+    * attribute counts kept by {@link PersonList}
+    */
+   public int getPlayersLeftToDeal() {
+      PersonWrapper dealer = playerList.getDealer();
+      int players = playerList.size() - (dealer == null ? 0 : 1);
+      int dealt = playerList.count(PersonAttribute.DEALT) - (dealer != null && dealer.has(PersonAttribute.DEALT) ? 1 : 0);
+      return Math.max(0, players - dealt);
    }
 
    public void addBlackEngineCallback(BlackEngineCallback gameEngineCallback) {
@@ -172,6 +227,21 @@ public class BlackEngineImplEx extends ForwardingGameEngine {
       return executor;
    }
 
+   @Override
+   public TableSnapshot getSnapshot() {
+      return monitor.getSnapshot();
+   }
+
+   @Override
+   public DealGate getDealGate() {
+      return dealGate;
+   }
+
+   @Override
+   public int getQueueDepth() {
+      return TableManagement.queueDepth(executor);
+   }
+
    /**
     * Returns a list of all PersonWrappers, used by
     * {@link controller.AppController}
@@ -18,6 +18,7 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.util.*;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -308,7 +309,7 @@ public class AppView extends JFrame {
    public void onPersonListChange(PersonList.ListEvent listEvent) {
 
       int type = listEvent.getID();
-      PersonWrapper pw = (PersonWrapper) listEvent.getSource();
+      PersonWrapper pw = listEvent.getItems().isEmpty() ? null : listEvent.getItems().get(0);
       if (type == PersonList.ListEvent.ITEM_REMOVED) {
          onPersonLeft(pw);
          setStatus("Removed Player: <b>" + pw.getPersonName());
@@ -317,6 +318,23 @@ public class AppView extends JFrame {
          onPersonJoined(pw);
          setStatus("Added Player: <b>" + pw.getPersonName());
       }
+      else if (type == PersonList.ListEvent.ITEMS_REMOVED) {
+         List<PersonWrapper> removed = listEvent.getItems();
+         // remove from the end, so the indexes of the rows still to go are unchanged
+         for (int i = removed.size() - 1; i >= 0; i--) {
+            onPersonLeft(removed.get(i));
+         }
+         setStatus("Removed <b>" + removed.size() + "</b> players");
+      }
+      else if (type == PersonList.ListEvent.ITEMS_ADDED) {
+         List<PersonWrapper> added = listEvent.getItems();
+         for (PersonWrapper player : added) {
+            onPersonJoined(player);
+         }
+         setStatus(added.size() == 1
+               ? "Added Player: <b>" + added.get(0).getPersonName()
+               : "Added <b>" + added.size() + "</b> players");
+      }
    }
 
    private void onPersonLeft(PersonWrapper player) {
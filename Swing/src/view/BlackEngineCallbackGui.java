@@ -6,6 +6,7 @@ import model.interfaces.Player;
 import model.interfaces.PokerCard;
 import util.Timers;
 import view.interfaces.BlackEngineCallback;
+import viewmodel.PersonAttribute;
 import viewmodel.PersonWrapper;
 
 import javax.swing.*;
@@ -67,7 +68,7 @@ public class BlackEngineCallbackGui implements BlackEngineCallback {
    @Override
    public void houseResult(int result, BlackEngine engine) {
       gameEngineImplEx.getPersonList().getDealer().setResult(result);
-      gameEngineImplEx.getPersonList().getDealer().has("dealt", true);
+      gameEngineImplEx.getPersonList().getDealer().has(PersonAttribute.DEALT, true);
 
       try {
          // synchronous ADT thread required to prevent race condition that
@@ -88,7 +89,7 @@ public class BlackEngineCallbackGui implements BlackEngineCallback {
             // mark player for later removal
             removalRequired.add(player);
          }
-         player.has("dealt", false);
+         player.has(PersonAttribute.DEALT, false);
       }
 
       if (removalRequired.size() > 0) {
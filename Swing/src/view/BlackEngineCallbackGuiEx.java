@@ -5,6 +5,8 @@ import model.BlackEngineImplEx;
 import model.interfaces.BlackEngine;
 import model.interfaces.Player;
 import view.interfaces.GameEngineCallbackEx;
+import viewmodel.PersonAttribute;
+import viewmodel.PersonList;
 import viewmodel.PersonWrapper;
 
 import javax.swing.*;
@@ -17,15 +19,26 @@ public class BlackEngineCallbackGuiEx extends BlackEngineCallbackGui
 
    private final BlackEngineImplEx gameEngineImplEx;
    private final AppView appView;
+   /**
+    * Default milliseconds between the last player being dealt and the house dealing
+    */
+   public static final int HOUSE_DEAL_DELAY = 2000;
+
    private final Executor executor;
-   private Timer checkDealHouseTimer = null;
+
+   // where the round is up to, as far as the house deal goes
+   private enum HouseDeal {
+      IDLE, SCHEDULED, DEALING
+   }
+
+   private HouseDeal houseDeal = HouseDeal.IDLE;
 
    public BlackEngineCallbackGuiEx(BlackEngineImplEx gameEngineImplEx, AppView appView) {
       super(gameEngineImplEx, appView);
       this.gameEngineImplEx = gameEngineImplEx;
       this.appView = appView;
       this.executor = gameEngineImplEx.getExecutor();
-      startCheckDealHouseTimer();
+      startHouseDealTrigger();
    }
 
    // No longer needed
@@ -55,28 +68,52 @@ public class BlackEngineCallbackGuiEx extends BlackEngineCallbackGui
       });
    }
 
-   private boolean isHouseDealing = false;
-   private synchronized boolean checkDealHouse() {
-      if (gameEngineImplEx.isEveryoneDealt() && !isHouseDealing && !gameEngineImplEx.getPersonList().getDealer().has("dealt")) {
+   /**
+    * Sets how long to wait between the last player being dealt and the house dealing, so the
+    * last player's cards can be seen (and a player who joins in the meantime gets a turn)
+    *
+    * @param millis delay in milliseconds
+    */
+   public void setHouseDealDelay(int millis) {
+      Timer timer = appView.getDealHouseTimer();
+      timer.setInitialDelay(millis);
+      timer.setDelay(millis);
+   }
 
-         isHouseDealing = true;
-         setStatus("The house is dealing <b>shortly</b>...");
+   /**
+    * Called whenever a player is dealt, the house's cards are cleared or players come and go: when
+    * every player has been dealt and the house hasn't, schedules the house deal; if that stops being
+    * true before it starts (e.g. a new player joins), cancels it.
+    */
+   private synchronized void checkDealHouse() {
+      boolean ready = isReadyForHouse();
+      if (ready && houseDeal == HouseDeal.IDLE) {
+         houseDeal = HouseDeal.SCHEDULED;
+         setStatus("The house will deal <b>shortly</b>...");
+         appView.getDealHouseTimer().restart();
+      }
+      else if (!ready && houseDeal == HouseDeal.SCHEDULED) {
+         houseDeal = HouseDeal.IDLE;
+         appView.getDealHouseTimer().stop();
+      }
+   }
 
-         appView.setDealHouseTimer(new Timer(2000, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-               setStatus("The house is dealing <b>now");
-               dealHouse();
-               isHouseDealing = false;
-            }
-         }));
-         setStatus("The house will deal <b>real soon now</b>...");
-         util.Timers.wait(200);
-         appView.getDealHouseTimer().start();
-         appView.getDealHouseTimer().setRepeats(false);
-         return true;
+   private boolean isReadyForHouse() {
+      PersonWrapper dealer = gameEngineImplEx.getPersonList().getDealer();
+      return dealer != null && !dealer.has(PersonAttribute.DEALT) && gameEngineImplEx.isEveryoneDealt();
+   }
+
+   // the house deal timer has gone off
+   private synchronized void onDealHouseTimer() {
+      if (houseDeal != HouseDeal.SCHEDULED) {
+         return;
+      }
+      if (!isReadyForHouse()) {
+         houseDeal = HouseDeal.IDLE;
+         return;
       }
-      return false;
+      houseDeal = HouseDeal.DEALING;
+      dealHouse();
    }
 
    private void dealHouse() {
@@ -85,6 +122,9 @@ public class BlackEngineCallbackGuiEx extends BlackEngineCallbackGui
             new Runnable() {
                @Override
                public void run() {
+                  // DEALT is set on a player's first card, so the timer can go off mid-hand; only
+                  // switch to the dealer once that hand (ahead of us on the executor) is done
+                  setStatus("The house is dealing <b>now");
                   SwingUtilities.invokeLater(
                         new Runnable() {
                            @Override
@@ -94,8 +134,15 @@ public class BlackEngineCallbackGuiEx extends BlackEngineCallbackGui
                               appView.activatePersonPanel(dealer);
                            }
                         });
-                  util.Timers.wait(200);
-                  gameEngineImplEx.dealHouse(AppController.DELAY);
+                  try {
+                     gameEngineImplEx.dealHouse(AppController.DELAY);
+                  } finally {
+                     // the house result has marked the dealer as dealt, so this round won't
+                     // trigger again
+                     synchronized (BlackEngineCallbackGuiEx.this) {
+                        houseDeal = HouseDeal.IDLE;
+                     }
+                  }
 
                   SwingUtilities.invokeLater(
                         new Runnable() {
@@ -110,22 +157,31 @@ public class BlackEngineCallbackGuiEx extends BlackEngineCallbackGui
       );
    }
 
-   private void startCheckDealHouseTimer() {
-      checkDealHouseTimer = new Timer(1000, new ActionListener() {
+   private void startHouseDealTrigger() {
+      Timer dealHouseTimer = new Timer(HOUSE_DEAL_DELAY, new ActionListener() {
          @Override
          public void actionPerformed(ActionEvent e) {
-            // If we have just dealt the house cards, restart the timer to
-            // force a 10 second wait before rechecking.  That way we can
-            // be sure we don't try and deal twice, or something.
-            if (checkDealHouse()) {
-               checkDealHouseTimer.restart();
+            onDealHouseTimer();
+         }
+      });
+      dealHouseTimer.setRepeats(false);
+      appView.setDealHouseTimer(dealHouseTimer);
+
+      PersonList personList = gameEngineImplEx.getPersonList();
+      personList.addAttributeListener(new PersonList.AttributeListener() {
+         @Override
+         public void attributeChanged(PersonWrapper playerWrapper, PersonAttribute attribute, boolean set) {
+            if (attribute == PersonAttribute.DEALT) {
+               checkDealHouse();
             }
          }
       });
-      checkDealHouseTimer.setInitialDelay(10000); // 10 seconds
-      checkDealHouseTimer.setRepeats(true);
-      checkDealHouseTimer.start();
+      personList.addEventListener("houseDeal", this, new PersonList.ListListener() {
+         @Override
+         public void actionPerformed(PersonList.ListEvent e) {
+            checkDealHouse();
+         }
+      });
    }
 
 }
-
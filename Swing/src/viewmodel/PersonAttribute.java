@@ -0,0 +1,101 @@
+package viewmodel;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interned name of a flag that can be set on a {@link PersonWrapper}, e.g. {@link #DEALT}. Each
+ * attribute owns one bit, so a player's flags are a single long and {@link PersonList} can keep a
+ * count of the players with each attribute.
+ */
+public final class PersonAttribute {
+   /**
+    * Maximum number of distinct attributes (bits in a long)
+    */
+   public static final int MAX = Long.SIZE;
+
+   private static final ConcurrentMap<String, PersonAttribute> BY_NAME = new ConcurrentHashMap<>();
+   private static final PersonAttribute[] BY_BIT = new PersonAttribute[MAX];
+   private static int next = 0;
+
+   /**
+    * Set while a player has been dealt this round
+    */
+   public static final PersonAttribute DEALT = of("dealt");
+
+   private final String name;
+   private final int bit;
+   private final long mask;
+
+   private PersonAttribute(String name, int bit) {
+      this.name = name;
+      this.bit = bit;
+      this.mask = 1L << bit;
+   }
+
+   /**
+    * @param name attribute name
+    *
+    * @return the attribute with this name, registered on first use
+    *
+    * @throws IllegalStateException if {@link #MAX} attributes are already registered
+    */
+   public static PersonAttribute of(String name) {
+      PersonAttribute attribute = BY_NAME.get(name);
+      if (attribute != null) {
+         return attribute;
+      }
+      synchronized (BY_BIT) {
+         attribute = BY_NAME.get(name);
+         if (attribute == null) {
+            if (next == MAX) {
+               throw new IllegalStateException("Too many person attributes, can't add " + name);
+            }
+            attribute = new PersonAttribute(name, next);
+            BY_BIT[next++] = attribute;
+            BY_NAME.put(name, attribute);
+         }
+         return attribute;
+      }
+   }
+
+   /**
+    * Looks up an attribute without registering it, for queries that shouldn't use up one of the
+    * {@link #MAX} bits
+    *
+    * @param name attribute name
+    *
+    * @return the attribute with this name, or null if it has never been registered
+    */
+   public static PersonAttribute find(String name) {
+      return BY_NAME.get(name);
+   }
+
+   /**
+    * @param bit bit number of a registered attribute
+    *
+    * @return the attribute, or null if none has that bit
+    */
+   static PersonAttribute ofBit(int bit) {
+      synchronized (BY_BIT) {
+         return BY_BIT[bit];
+      }
+   }
+
+   public String getName() {
+      return name;
+   }
+
+   public int getBit() {
+      return bit;
+   }
+
+   public long getMask() {
+      return mask;
+   }
+
+   @Override
+   public String toString() {
+      return name;
+   }
+}
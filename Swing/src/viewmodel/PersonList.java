@@ -7,8 +7,11 @@ import javax.swing.*;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.function.Predicate;
 
 import static java.util.stream.Collectors.toList;
@@ -16,7 +19,10 @@ import static java.util.stream.Collectors.toList;
 @SuppressWarnings("serial")
 public class PersonList implements Serializable {
 
-   public transient final SortedSet<Player> sortedPersons = Collections.synchronizedSortedSet(new TreeSet<>(new Comparator<Player>() {
+   /**
+    * Players sorted by id, indexed so a player's position is found in O(log n)
+    */
+   public transient final RankedSet<Player> sortedPersons = new RankedSet<>(new Comparator<Player>() {
       @Override
       public int compare(Player o1, Player o2) {
          int a = StringHelpers.stringAsInt(o1.getPersonId(), -1);
@@ -24,12 +30,17 @@ public class PersonList implements Serializable {
 
          return Integer.compare(a, b);
       }
-   }));
+   });
    /**
     * A sorted list of current players, used to contiguously populate the drop-down player list and table summary
     */
    private transient final ArrayList<PersonWrapper> sortedPersonWrappers = new ArrayList<>(16);
-   private transient final Map<Pair<String, Object>, ListListener> eventListeners = new LinkedHashMap<>();
+   private transient final Map<Pair<String, Object>, Delivery> eventListeners = new LinkedHashMap<>();
+   // number of listed players with each PersonAttribute, by bit
+   private transient final AtomicIntegerArray attributeCounts = new AtomicIntegerArray(PersonAttribute.MAX);
+   private transient final List<AttributeListener> attributeListeners = new CopyOnWriteArrayList<>();
+   // copy of eventListeners.values() for dispatching without holding a lock
+   private transient volatile Delivery[] deliveries = new Delivery[0];
 
    private void writeObject(ObjectOutputStream s) throws IOException {
       s.defaultWriteObject();
@@ -40,45 +51,51 @@ public class PersonList implements Serializable {
    }
 
    /**
-    * Dispatches a ListEvent to ListListeners, "switching" to the ADT thread.
-    * if the ListListener is on a Swing thread (i.e. implements the ListListenerSwing
-    * interface).
+    * Dispatches a ListEvent to ListListeners. Plain listeners are called on this thread;
+    * {@link ListListenerSwing} listeners are called on the EDT without this thread waiting for
+    * them, see {@link Delivery}.
     * @param type ITEM_ADD or ITEM_REMOVE
     * @param playerWrapper the player being added or removed
     */
-   public synchronized void dispatchEvent(int type, PersonWrapper playerWrapper) {
-      for (ListListener listener : eventListeners.values()) {
-         Runnable fn = new Runnable() {
-            @SuppressWarnings({"serial", "RedundantSuppression"})
-            @Override
-            public void run() {
-               listener.actionPerformed(new ListEvent(playerWrapper, type) { });
-            }
-         };
-         // While it might seem easier to just dispatch all Swing event via `invokeLater`,
-         // there were some difficulties with the initial player list being added OUT OF ORDER,
-         // suggesting that invokeLater may not be a FIFO queue.  Therefore we only use it if
-         // we have to.
-         // Usage of `invokeAndWait` for synchronous dispatch may also have solved this issue.
-         if (listener instanceof ListListenerSwing && !SwingUtilities.isEventDispatchThread()) {
-            try {
-               SwingUtilities.invokeAndWait(fn);
-            } catch (InterruptedException | InvocationTargetException e) {
-               e.printStackTrace();
-            }
-         }
-         else {
-            fn.run();
-         }
+   @SuppressWarnings({"serial", "RedundantSuppression"})
+   public void dispatchEvent(int type, PersonWrapper playerWrapper) {
+      dispatchEvent(new ListEvent(playerWrapper, type) { });
+   }
+
+   /**
+    * Dispatches a single coalesced event for a bulk change
+    *
+    * @param type          ITEMS_ADDED or ITEMS_REMOVED
+    * @param playerWrappers the players added or removed, in index order
+    */
+   public void dispatchEvent(int type, List<PersonWrapper> playerWrappers) {
+      dispatchEvent(new ListEvent(this, type, playerWrappers));
+   }
+
+   private void dispatchEvent(ListEvent event) {
+      for (Delivery delivery : deliveries) {
+         delivery.deliver(event);
       }
    }
 
    public void addEventListener(String listenerName, Object listenerObject, ListListener ll) {
-      eventListeners.put(new Pair<>(listenerName, listenerObject), ll);
+      synchronized (eventListeners) {
+         Delivery previous = eventListeners.put(new Pair<>(listenerName, listenerObject), new Delivery(ll));
+         if (previous != null) {
+            previous.cancelled = true;
+         }
+         deliveries = eventListeners.values().toArray(new Delivery[0]);
+      }
    }
 
    public void removeEventListener(String listenerName, Object listenerObject) {
-      eventListeners.remove(new Pair<>(listenerName, listenerObject));
+      synchronized (eventListeners) {
+         Delivery removed = eventListeners.remove(new Pair<>(listenerName, listenerObject));
+         if (removed != null) {
+            removed.cancelled = true;
+         }
+         deliveries = eventListeners.values().toArray(new Delivery[0]);
+      }
    }
 
    public ArrayList<PersonWrapper> getAll() {
@@ -110,8 +127,9 @@ public class PersonList implements Serializable {
             return playerWrapper;
          throw new ArrayIndexOutOfBoundsException("PersonWrapper::get index for "+playerWrapper.getPersonName()+" was "+playerWrapper.getIndex() + "/" + playerWrapper.getSortedIndex());
       }
-      if (sortedPersons.contains(player)) {
-         return at(getPersonIndex(player));
+      int index = getPersonIndex(player);
+      if (index > -1) {
+         return at(index);
       }
 
       // Make new player
@@ -122,6 +140,117 @@ public class PersonList implements Serializable {
       return newPerson;
    }
 
+   /**
+    * Adds every player not already in the list, dispatching a single {@link ListEvent#ITEMS_ADDED}
+    * event for all of them rather than one event each.
+    *
+    * @param players players to add, in id order
+    *
+    * @return the wrappers created for the new players
+    */
+   public List<PersonWrapper> addAll(Collection<? extends Player> players) {
+      List<PersonWrapper> added = new ArrayList<>(players.size());
+      for (Player player : players) {
+         if (player instanceof PersonWrapper || sortedPersons.contains(player)) {
+            continue;
+         }
+         PersonWrapper newPerson = new PersonWrapper(this, player);
+         sortedPersons.add(player);
+         added.add(newPerson);
+      }
+      if (!added.isEmpty()) {
+         dispatchEvent(ListEvent.ITEMS_ADDED, added);
+      }
+      return added;
+   }
+
+   /**
+    * Removes a player, renumbering the players after it in the same pass, then dispatches a
+    * {@link ListEvent#ITEM_REMOVED} event whose source is a copy of the wrapper that keeps its
+    * old index.
+    *
+    * @param playerWrapper player to remove
+    *
+    * @return true if the player was in the list
+    */
+   boolean remove(PersonWrapper playerWrapper) {
+      int index = playerWrapper.index;
+      if (index < 0 || index >= sortedPersonWrappers.size() || sortedPersonWrappers.get(index) != playerWrapper) {
+         index = sortedPersonWrappers.indexOf(playerWrapper);
+      }
+      if (index < 0 || !sortedPersons.remove(playerWrapper.getPlayer())) {
+         return false;
+      }
+      PersonWrapper removed = (PersonWrapper) playerWrapper.clone();
+      removed.index = index;
+      sortedPersonWrappers.remove(index);
+      for (int i = index; i < sortedPersonWrappers.size(); i++) {
+         sortedPersonWrappers.get(i).index = i;
+      }
+      playerWrapper.index = PersonWrapper.INDEX_INVALID;
+      playerWrapper.unlist();
+      dispatchEvent(ListEvent.ITEM_REMOVED, removed);
+      return true;
+   }
+
+   /**
+    * Removes every listed player that is in the list, renumbering the rest in a single pass, and
+    * dispatches one {@link ListEvent#ITEMS_REMOVED} event. The event lists copies of the removed
+    * wrappers that keep their old indexes, in ascending order (so remove rows from the end first).
+    *
+    * @param players players (or their wrappers) to remove
+    *
+    * @return the number of players removed
+    */
+   public int removeAll(Collection<? extends Player> players) {
+      int size = sortedPersonWrappers.size();
+      boolean[] removing = new boolean[size];
+      int count = 0;
+      for (Player player : players) {
+         int index;
+         if (player instanceof PersonWrapper) {
+            // only trust the index if it still points at this wrapper: event copies keep their old
+            // index, and a wrapper from another list has an index that means nothing here
+            PersonWrapper playerWrapper = (PersonWrapper) player;
+            index = playerWrapper.index;
+            if (index < 0 || index >= size || sortedPersonWrappers.get(index) != playerWrapper) {
+               index = sortedPersonWrappers.indexOf(playerWrapper);
+            }
+         }
+         else {
+            index = getPersonIndex(player);
+         }
+         if (index > -1 && !removing[index]) {
+            removing[index] = true;
+            count++;
+         }
+      }
+      if (count == 0) {
+         return 0;
+      }
+
+      List<PersonWrapper> removed = new ArrayList<>(count);
+      int kept = 0;
+      for (int i = 0; i < size; i++) {
+         PersonWrapper playerWrapper = sortedPersonWrappers.get(i);
+         if (removing[i]) {
+            sortedPersons.remove(playerWrapper.getPlayer());
+            PersonWrapper copy = (PersonWrapper) playerWrapper.clone();
+            copy.index = i;
+            removed.add(copy);
+            playerWrapper.index = PersonWrapper.INDEX_INVALID;
+            playerWrapper.unlist();
+         }
+         else {
+            playerWrapper.index = kept;
+            sortedPersonWrappers.set(kept++, playerWrapper);
+         }
+      }
+      sortedPersonWrappers.subList(kept, size).clear();
+      dispatchEvent(ListEvent.ITEMS_REMOVED, removed);
+      return count;
+   }
+
    /**
     * Translate between Player objects and the contiguous 0 based index of players we use
     * with the JComboBox and JTable
@@ -156,7 +285,55 @@ public class PersonList implements Serializable {
     * @return index or -1 on failure
     */
    public int getPersonIndex(Player player) {
-      return sortedPersons.contains(player) ? sortedPersons.headSet(player).size() : -1;
+      return sortedPersons.indexOf(player);
+   }
+
+   /**
+    * @return number of players in the list
+    */
+   public int size() {
+      return sortedPersonWrappers.size();
+   }
+
+   /**
+    * @param attribute attribute to count
+    *
+    * @return number of players (including the dealer) with the attribute set, in O(1)
+    */
+   public int count(PersonAttribute attribute) {
+      return attributeCounts.get(attribute.getBit());
+   }
+
+   public int count(String attribute) {
+      PersonAttribute known = PersonAttribute.find(attribute);
+      return known == null ? 0 : count(known);
+   }
+
+   /**
+    * Adds delta to the count of every attribute in mask, see {@link PersonWrapper#has(PersonAttribute, boolean)}
+    */
+   void countAttributes(long mask, int delta) {
+      for (long bits = mask; bits != 0; bits &= bits - 1) {
+         attributeCounts.addAndGet(Long.numberOfTrailingZeros(bits), delta);
+      }
+   }
+
+   /**
+    * @param listener called, on the thread making the change, whenever an attribute of a player
+    *                 in the list is set or cleared
+    */
+   public void addAttributeListener(AttributeListener listener) {
+      attributeListeners.add(listener);
+   }
+
+   public void removeAttributeListener(AttributeListener listener) {
+      attributeListeners.remove(listener);
+   }
+
+   void fireAttributeChanged(PersonWrapper playerWrapper, PersonAttribute attribute, boolean set) {
+      for (AttributeListener listener : attributeListeners) {
+         listener.attributeChanged(playerWrapper, attribute, set);
+      }
    }
 
    public List<PersonWrapper> thatHave(String attribute) {
@@ -177,6 +354,86 @@ public class PersonList implements Serializable {
       }).collect(toList());
    }
 
+   /**
+    * Delivers events to one listener, in the order they were dispatched.
+    * <p>
+    * {@link ListListenerSwing} listeners used to be called with {@code invokeAndWait}, which blocked
+    * the dealing thread on the EDT (and deadlocked if the EDT was waiting on the list). Now events
+    * for them go into a FIFO queue, and one {@code invokeLater} drains everything queued by the
+    * time it runs, so a burst of changes costs one trip to the EDT. Consecutive additions in a burst
+    * are coalesced into a single {@link ListEvent#ITEMS_ADDED} event. Removals are delivered one by
+    * one, since each carries the index the player had at the time. Events dispatched on the EDT are
+    * delivered straight away, after anything already queued.
+    */
+   private final class Delivery implements Runnable {
+      private final ListListener listener;
+      private final boolean swing;
+      private final Queue<ListEvent> queue = new ConcurrentLinkedQueue<>();
+      private final AtomicBoolean scheduled = new AtomicBoolean();
+      // only used on the EDT; events dispatched by the listener itself are left to the loop in run()
+      private boolean draining = false;
+      volatile boolean cancelled = false;
+
+      Delivery(ListListener listener) {
+         this.listener = listener;
+         this.swing = listener instanceof ListListenerSwing;
+      }
+
+      void deliver(ListEvent event) {
+         if (!swing) {
+            listener.actionPerformed(event);
+            return;
+         }
+         queue.add(event);
+         if (SwingUtilities.isEventDispatchThread()) {
+            if (!draining) {
+               run();
+            }
+         }
+         else if (scheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this);
+         }
+      }
+
+      @Override
+      public void run() {
+         // cleared before polling, so an event queued after the last poll schedules another run
+         scheduled.set(false);
+         draining = true;
+         try {
+            ListEvent pending = null;
+            ListEvent event;
+            while ((event = queue.poll()) != null) {
+               if (pending != null && isAddition(pending) && isAddition(event)) {
+                  List<PersonWrapper> items = new ArrayList<>(pending.getItems());
+                  items.addAll(event.getItems());
+                  pending = new ListEvent(PersonList.this, ListEvent.ITEMS_ADDED, items);
+                  continue;
+               }
+               if (pending != null) {
+                  fire(pending);
+               }
+               pending = event;
+            }
+            if (pending != null) {
+               fire(pending);
+            }
+         } finally {
+            draining = false;
+         }
+      }
+
+      private void fire(ListEvent event) {
+         if (!cancelled) {
+            listener.actionPerformed(event);
+         }
+      }
+
+      private boolean isAddition(ListEvent event) {
+         return event.getID() == ListEvent.ITEM_ADDED || event.getID() == ListEvent.ITEMS_ADDED;
+      }
+   }
+
    /**
     * The listener interface for receiving list events.
     * The class that is interested in processing a list event
@@ -191,9 +448,19 @@ public class PersonList implements Serializable {
       void actionPerformed(ListEvent e);
    }
 
+   /**
+    * The listener interface for changes to player attributes, e.g. a player being marked as
+    * {@link PersonAttribute#DEALT}.
+    *
+    * @see #addAttributeListener(AttributeListener)
+    */
+   public interface AttributeListener extends EventListener {
+      void attributeChanged(PersonWrapper playerWrapper, PersonAttribute attribute, boolean set);
+   }
+
    /**
     * This extension of ListListener will be invoked on an
-    * ADT (Swing) thread if necessary.
+    * ADT (Swing) thread if necessary, asynchronously and in order.
     */
    public interface ListListenerSwing extends ListListener {
    }
@@ -208,10 +475,19 @@ public class PersonList implements Serializable {
       // to keep with tradition rather than use an enum.
       static public final int ACTION_FIRST = 1001;
       @SuppressWarnings("unused")
-      static public final int ACTION_LAST = 1002;
+      static public final int ACTION_LAST = 1004;
       static public final int ITEM_ADDED = ACTION_FIRST;
       static public final int ITEM_REMOVED = ACTION_FIRST + 1;
+      /**
+       * Several players added at once, see {@link #getItems()}
+       */
+      static public final int ITEMS_ADDED = ACTION_FIRST + 2;
+      /**
+       * Several players removed at once, see {@link #getItems()}
+       */
+      static public final int ITEMS_REMOVED = ACTION_FIRST + 3;
       protected final int id;
+      protected final List<PersonWrapper> items;
 
       /**
        * Constructs an <code>ListEvent</code> object.
@@ -224,8 +500,29 @@ public class PersonList implements Serializable {
        * @see #getID()
        */
       public ListEvent(Object source, int id) {
+         this(source, id, source instanceof PersonWrapper
+               ? Collections.singletonList((PersonWrapper) source)
+               : Collections.<PersonWrapper>emptyList());
+      }
+
+      /**
+       * Constructs a <code>ListEvent</code> for a change to several players.
+       *
+       * @param source  The object that originated the event
+       * @param id      An integer that identifies the event.
+       * @param items   The players affected, in index order
+       */
+      public ListEvent(Object source, int id, List<PersonWrapper> items) {
          super(source);
          this.id = id;
+         this.items = Collections.unmodifiableList(items);
+      }
+
+      /**
+       * @return the players added or removed, in index order (the source, for single player events)
+       */
+      public List<PersonWrapper> getItems() {
+         return items;
       }
 
       /**
@@ -247,6 +544,12 @@ public class PersonList implements Serializable {
             case ITEM_REMOVED:
                typeStr = "ITEM_REMOVED";
                break;
+            case ITEMS_ADDED:
+               typeStr = "ITEMS_ADDED";
+               break;
+            case ITEMS_REMOVED:
+               typeStr = "ITEMS_REMOVED";
+               break;
             default:
                typeStr = "unknown type";
          }
@@ -7,7 +7,7 @@ import java.awt.*;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 @SuppressWarnings("serial")
@@ -16,11 +16,15 @@ public class PersonWrapper implements Player, Cloneable, Serializable {
    public static final float HUE_OFFSET_PER_PLAYER = 180f + 30f;
    @SuppressWarnings("unused")
    static protected final int INDEX_UNSET = -2;
-   @SuppressWarnings("unused")
    static protected final int INDEX_INVALID = -1;
    @SuppressWarnings("unused")
    static protected final int INDEX_MINIMUM = 0;
-   transient protected final Set<String> attributes = new HashSet<>();
+   /**
+    * One bit per {@link PersonAttribute}
+    */
+   transient protected long attributes;
+   // true while this wrapper is in its PersonList, and so counted by PersonList.count()
+   transient private boolean listed;
    transient private final Player player;
    transient private final PersonList playerList;
    transient protected int index;
@@ -33,14 +37,15 @@ public class PersonWrapper implements Player, Cloneable, Serializable {
       this.playerList = playerList;
       this.player = player;
       if (!clone) {
-         if (playerList.sortedPersons.contains(player)) {
-            this.index = playerList.getPersonIndex(player);
+         int sortedIndex = playerList.getPersonIndex(player);
+         if (sortedIndex > -1) {
+            this.index = sortedIndex;
          }
          else {
             this.index = playerList.sortedPersons.size();
          }
          playerList.getListReference().add(this);
-         playerList.addEventListener("reindexEvent", this, this::reindexEvent);
+         listed = true;
       }
    }
 
@@ -49,30 +54,6 @@ public class PersonWrapper implements Player, Cloneable, Serializable {
       s.writeChars(" ^" + index + ";" + player.getPersonId() + "#" + player.getPersonName() + ":" + player.getPoints() + "$ ");
    }
 
-   private void reindexEvent(PersonList.ListEvent listEvent) {
-      if (index == -1) {
-         playerList.removeEventListener("reindexEvent", this);
-      }
-      int type = listEvent.getID();
-      PersonWrapper pw = ((PersonWrapper) listEvent.getSource());
-      if (type == PersonList.ListEvent.ITEM_REMOVED) {
-         if (index > pw.index) {
-            index--;
-         }
-         else if (index == pw.index) {
-            // side effect: every successive entry will be reduced by 1, since it will be compared to
-            // -1. Fortunately this makes no difference, as we have to lower all following entries anyway.
-            index = -1;
-         }
-      }
-      else if (type == PersonList.ListEvent.ITEM_ADDED) {
-         if (pw.index <= index && pw != this) {
-            throw new IllegalArgumentException("PersonWrapper: " + getPersonName() + " says: tried to add index that was lower than expected. "
-                  + pw.index + " <= " + index);
-         }
-      }
-   }
-
    /**
     * Generates a unique-ish color using a hue shift on #009900, rotating HUE_OFFSET_PER_PLAYER degrees per playerId.
     *
@@ -103,15 +84,14 @@ public class PersonWrapper implements Player, Cloneable, Serializable {
 
    @SuppressWarnings("UnusedReturnValue")
    public boolean remove() {
-      if (playerList.sortedPersons.contains(player)) {
-         PersonWrapper pwc = ((PersonWrapper) clone());
-         playerList.dispatchEvent(PersonList.ListEvent.ITEM_REMOVED, pwc);
-         playerList.sortedPersons.remove(player);
-         playerList.getListReference().remove(this);
-         playerList.removeEventListener("reindexEvent", this);
-         return true;
-      }
-      return false;
+      return playerList.remove(this);
+   }
+
+   /**
+    * @return the wrapped player
+    */
+   Player getPlayer() {
+      return player;
    }
 
    @SuppressWarnings({"CloneDoesntDeclareCloneNotSupportedException", "MethodDoesntCallSuperMethod"})
@@ -119,10 +99,21 @@ public class PersonWrapper implements Player, Cloneable, Serializable {
    protected Object clone() {
       PersonWrapper pw = new PersonWrapper(playerList, player, true);
       pw.index = index;
-      pw.attributes.addAll(attributes);
+      pw.attributes = attributes;
       return pw;
    }
 
+   /**
+    * Called by {@link PersonList} when this wrapper is removed, so its attributes are no
+    * longer counted
+    */
+   synchronized void unlist() {
+      if (listed) {
+         listed = false;
+         playerList.countAttributes(attributes, -1);
+      }
+   }
+
    //@formatter:off
    @Override public String  getPersonId()                    { return player.getPersonId();          }
    @Override public String  getPersonName()                  { return player.getPersonName();        }
@@ -157,22 +148,53 @@ public class PersonWrapper implements Player, Cloneable, Serializable {
       return "PersonWrapper{" +
             "index=" + index +
             ", sortedIndex=" + getSortedPersonIndex() +
-            ", attributes=" + attributes +
+            ", attributes=" + describeAttributes() +
             ", player=" + player +
             '}';
    }
 
    public boolean has(String attribute) {
-      return attributes.contains(attribute);
+      PersonAttribute known = PersonAttribute.find(attribute);
+      return known != null && has(known);
    }
 
    public void has(String attribute, boolean set) {
-      if (set) {
-         attributes.add(attribute);
+      has(PersonAttribute.of(attribute), set);
+   }
+
+   public synchronized boolean has(PersonAttribute attribute) {
+      return (attributes & attribute.getMask()) != 0;
+   }
+
+   /**
+    * Sets or clears an attribute, keeping {@link PersonList#count(PersonAttribute)} up to date and
+    * notifying {@link PersonList.AttributeListener}s if it changed
+    *
+    * @param attribute attribute to change
+    * @param set       true to set, false to clear
+    */
+   public void has(PersonAttribute attribute, boolean set) {
+      synchronized (this) {
+         long mask = attribute.getMask();
+         if (((attributes & mask) != 0) == set) {
+            return;
+         }
+         attributes ^= mask;
+         if (!listed) {
+            return;
+         }
+         playerList.countAttributes(mask, set ? 1 : -1);
       }
-      else {
-         attributes.remove(attribute);
+      // outside the lock, listeners may look at other players
+      playerList.fireAttributeChanged(this, attribute, set);
+   }
+
+   private synchronized Set<String> describeAttributes() {
+      Set<String> names = new LinkedHashSet<>();
+      for (long bits = attributes; bits != 0; bits &= bits - 1) {
+         names.add(PersonAttribute.ofBit(Long.numberOfTrailingZeros(bits)).getName());
       }
+      return names;
    }
 
    public boolean isValid() {
@@ -0,0 +1,328 @@
+package viewmodel;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A sorted set that also knows the position of each element (an order statistic tree), so
+ * {@link #indexOf(Object)} and {@link #get(int)} are O(log n) like add and remove, rather than
+ * O(n) as with {@code TreeSet.headSet(e).size()}.
+ * <p>
+ * Implemented as a treap (a binary search tree kept balanced by random heap priorities) where
+ * each node records the size of its subtree. As with {@link java.util.TreeSet}, elements the
+ * comparator says are equal are the same element.
+ * <p>
+ * Methods are synchronized on the set, as {@link java.util.Collections#synchronizedSortedSet} would
+ * be; iteration must be done while holding that lock.
+ *
+ * @param <E> element type
+ */
+public class RankedSet<E> extends AbstractSet<E> {
+   private final Comparator<? super E> comparator;
+   private Node<E> root;
+   private int modCount;
+   private int seed = 0x2545F491;
+   // second result of split()
+   private Node<E> splitRight;
+   // set by insert(), split() and delete() when the element was (insert, split) or wasn't (delete) there
+   private boolean unchanged;
+
+   private static final class Node<E> {
+      final E value;
+      final int priority;
+      int size = 1;
+      Node<E> left;
+      Node<E> right;
+
+      Node(E value, int priority) {
+         this.value = value;
+         this.priority = priority;
+      }
+   }
+
+   public RankedSet(Comparator<? super E> comparator) {
+      this.comparator = comparator;
+   }
+
+   @Override
+   public synchronized int size() {
+      return size(root);
+   }
+
+   @Override
+   public synchronized boolean contains(Object o) {
+      return find(o) != null;
+   }
+
+   @Override
+   public synchronized boolean add(E e) {
+      unchanged = false;
+      root = insert(root, new Node<>(e, nextPriority()));
+      if (unchanged) {
+         return false;
+      }
+      modCount++;
+      return true;
+   }
+
+   @Override
+   public synchronized boolean remove(Object o) {
+      unchanged = false;
+      root = delete(root, o);
+      if (unchanged) {
+         return false;
+      }
+      modCount++;
+      return true;
+   }
+
+   @Override
+   public synchronized void clear() {
+      root = null;
+      modCount++;
+   }
+
+   /**
+    * @param o element to look for
+    *
+    * @return number of elements before o, or -1 if o isn't in the set
+    */
+   public synchronized int indexOf(Object o) {
+      int index = 0;
+      Node<E> node = root;
+      while (node != null) {
+         int c = compare(o, node.value);
+         if (c < 0) {
+            node = node.left;
+         }
+         else if (c > 0) {
+            index += size(node.left) + 1;
+            node = node.right;
+         }
+         else {
+            return index + size(node.left);
+         }
+      }
+      return -1;
+   }
+
+   /**
+    * @param index 0 based position
+    *
+    * @return the element at index in sorted order
+    *
+    * @throws IndexOutOfBoundsException if index is negative or not less than size()
+    */
+   public synchronized E get(int index) {
+      if (index < 0 || index >= size(root)) {
+         throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size(root));
+      }
+      Node<E> node = root;
+      while (true) {
+         int left = size(node.left);
+         if (index < left) {
+            node = node.left;
+         }
+         else if (index > left) {
+            index -= left + 1;
+            node = node.right;
+         }
+         else {
+            return node.value;
+         }
+      }
+   }
+
+   /**
+    * In order iterator, fail fast. Hold the set's lock while iterating.
+    */
+   @Override
+   public Iterator<E> iterator() {
+      return new Iterator<E>() {
+         private final Deque<Node<E>> path = new ArrayDeque<>();
+         private int expectedModCount = modCount;
+         private Node<E> last;
+
+         {
+            pushLeft(root);
+         }
+
+         @Override
+         public boolean hasNext() {
+            return !path.isEmpty();
+         }
+
+         @Override
+         public E next() {
+            if (modCount != expectedModCount) {
+               throw new ConcurrentModificationException();
+            }
+            if (path.isEmpty()) {
+               throw new NoSuchElementException();
+            }
+            last = path.pop();
+            pushLeft(last.right);
+            return last.value;
+         }
+
+         @Override
+         public void remove() {
+            if (last == null) {
+               throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+               throw new ConcurrentModificationException();
+            }
+            RankedSet.this.remove(last.value);
+            expectedModCount = modCount;
+            // the tree has been restructured, so find the way to the elements after last again
+            path.clear();
+            Node<E> node = root;
+            while (node != null) {
+               if (compare(last.value, node.value) < 0) {
+                  path.push(node);
+                  node = node.left;
+               }
+               else {
+                  node = node.right;
+               }
+            }
+            last = null;
+         }
+
+         private void pushLeft(Node<E> node) {
+            while (node != null) {
+               path.push(node);
+               node = node.left;
+            }
+         }
+      };
+   }
+
+   private Node<E> find(Object o) {
+      Node<E> node = root;
+      while (node != null) {
+         int c = compare(o, node.value);
+         if (c == 0) {
+            return node;
+         }
+         node = c < 0 ? node.left : node.right;
+      }
+      return null;
+   }
+
+   private Node<E> insert(Node<E> tree, Node<E> node) {
+      if (tree == null) {
+         return node;
+      }
+      if (node.priority > tree.priority) {
+         Node<E> left = split(tree, node.value);
+         if (unchanged) {
+            // already there, put the tree back together
+            return merge(left, splitRight);
+         }
+         node.left = left;
+         node.right = splitRight;
+         update(node);
+         return node;
+      }
+      int c = compare(node.value, tree.value);
+      if (c == 0) {
+         unchanged = true;
+         return tree;
+      }
+      if (c < 0) {
+         tree.left = insert(tree.left, node);
+      }
+      else {
+         tree.right = insert(tree.right, node);
+      }
+      update(tree);
+      return tree;
+   }
+
+   private Node<E> delete(Node<E> tree, Object o) {
+      if (tree == null) {
+         unchanged = true;
+         return null;
+      }
+      int c = compare(o, tree.value);
+      if (c == 0) {
+         return merge(tree.left, tree.right);
+      }
+      if (c < 0) {
+         tree.left = delete(tree.left, o);
+      }
+      else {
+         tree.right = delete(tree.right, o);
+      }
+      update(tree);
+      return tree;
+   }
+
+   // returns the elements of tree less than key, leaving the rest (including any equal to key) in splitRight
+   private Node<E> split(Node<E> tree, E key) {
+      if (tree == null) {
+         splitRight = null;
+         return null;
+      }
+      int c = compare(tree.value, key);
+      if (c < 0) {
+         tree.right = split(tree.right, key);
+         update(tree);
+         return tree;
+      }
+      if (c == 0) {
+         unchanged = true;
+      }
+      Node<E> left = split(tree.left, key);
+      tree.left = splitRight;
+      update(tree);
+      splitRight = tree;
+      return left;
+   }
+
+   // every element of a is less than every element of b
+   private Node<E> merge(Node<E> a, Node<E> b) {
+      if (a == null) {
+         return b;
+      }
+      if (b == null) {
+         return a;
+      }
+      if (a.priority > b.priority) {
+         a.right = merge(a.right, b);
+         update(a);
+         return a;
+      }
+      b.left = merge(a, b.left);
+      update(b);
+      return b;
+   }
+
+   private static int size(Node<?> node) {
+      return node == null ? 0 : node.size;
+   }
+
+   private static void update(Node<?> node) {
+      node.size = size(node.left) + size(node.right) + 1;
+   }
+
+   @SuppressWarnings("unchecked")
+   private int compare(Object a, E b) {
+      return comparator.compare((E) a, b);
+   }
+
+   // xorshift
+   private int nextPriority() {
+      seed ^= seed << 13;
+      seed ^= seed >>> 17;
+      seed ^= seed << 5;
+      return seed;
+   }
+}
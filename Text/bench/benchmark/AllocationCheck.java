@@ -0,0 +1,68 @@
+package benchmark;
+
+import model.BlackEngineImpl;
+import model.SimplePerson;
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import util.random.RandomSource;
+import view.BlackEngineCallbackImpl;
+import view.interfaces.BlackEngineCallback;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Level;
+
+/**
+ * Checks that dealing allocates nothing once warmed up: measures the bytes allocated by this
+ * thread (HotSpot's {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}) over
+ * many hands, with no callbacks, a no-op callback and the logging callback with FINE/INFO
+ * disabled. Exits with status 1 if any case allocates.
+ * <p>
+ * Usage: {@code AllocationCheck}
+ */
+public class AllocationCheck {
+   private static final int WARMUP_HANDS = 200_000;
+   private static final int MEASURED_HANDS = 1_000_000;
+
+   public static void main(String[] args) {
+      com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+      threads.setThreadAllocatedMemoryEnabled(true);
+
+      BlackEngineCallbackImpl logging = new BlackEngineCallbackImpl();
+      BlackEngineCallbackImpl.logger.setLevel(Level.WARNING);
+
+      boolean failed = false;
+      failed |= check(threads, "no callbacks", null);
+      failed |= check(threads, "no-op callback", new NoOpCallback());
+      failed |= check(threads, "logging callback (WARNING)", logging);
+      System.exit(failed ? 1 : 0);
+   }
+
+   private static boolean check(com.sun.management.ThreadMXBean threads, String name, BlackEngineCallback callback) {
+      BlackEngine engine = new BlackEngineImpl(RandomSource.xoshiro(42));
+      if (callback != null) {
+         engine.addBlackEngineCallback(callback);
+      }
+      Player player = new SimplePerson("1", "Player 1", Integer.MAX_VALUE / 2);
+      engine.addPerson(player);
+
+      deal(engine, player, WARMUP_HANDS);
+      long thread = Thread.currentThread().getId();
+      long before = threads.getThreadAllocatedBytes(thread);
+      deal(engine, player, MEASURED_HANDS);
+      long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+      boolean failed = allocated > 0;
+      System.out.printf("%-40s %,12d bytes over %,d rounds %s%n", name, allocated, MEASURED_HANDS,
+            failed ? "FAIL" : "OK");
+      return failed;
+   }
+
+   // one round: bet, deal the player, deal the house
+   private static void deal(BlackEngine engine, Player player, int rounds) {
+      for (int i = 0; i < rounds; i++) {
+         engine.placeBet(player, 1);
+         engine.dealPerson(player, 0);
+         engine.dealHouse(0);
+      }
+   }
+}
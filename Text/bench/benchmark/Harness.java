@@ -0,0 +1,98 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A small JMH style micro benchmark runner: each case is calibrated so that an iteration runs
+ * for roughly {@link #ITERATION_NANOS}, warmed up, then measured over several iterations and
+ * reported as average ns/op with the standard deviation between iterations.
+ * <p>
+ * Cases return a value derived from their work, which is folded into a volatile sink so the JIT
+ * cannot eliminate the benchmarked code.
+ */
+public final class Harness {
+   public static final long ITERATION_NANOS = 250_000_000L;
+   public static final int WARMUP_ITERATIONS = 5;
+   public static final int MEASURED_ITERATIONS = 10;
+
+   @SuppressWarnings({"unused", "RedundantSuppression"})
+   private static volatile long sink;
+
+   private final List<String> names = new ArrayList<>();
+   private final List<Case> cases = new ArrayList<>();
+
+   /**
+    * A single benchmark
+    */
+   public interface Case {
+      /**
+       * @param ops number of operations to perform
+       *
+       * @return any value depending on the work done
+       */
+      long run(int ops);
+   }
+
+   public Harness add(String name, Case benchmarkCase) {
+      names.add(name);
+      cases.add(benchmarkCase);
+      return this;
+   }
+
+   /**
+    * Runs every case whose name contains {@code filter} (all cases if null or empty)
+    *
+    * @param filter case name filter
+    */
+   public void run(String filter) {
+      System.out.printf("%-40s %12s %10s %16s%n", "Benchmark", "ns/op", "error", "ops/s");
+      for (int i = 0; i < cases.size(); i++) {
+         String name = names.get(i);
+         if (filter == null || filter.isEmpty() || name.contains(filter)) {
+            report(name, measure(cases.get(i)));
+         }
+      }
+   }
+
+   private static double[] measure(Case benchmarkCase) {
+      int ops = calibrate(benchmarkCase);
+      for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+         time(benchmarkCase, ops);
+      }
+      double[] nanosPerOp = new double[MEASURED_ITERATIONS];
+      for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+         nanosPerOp[i] = (double) time(benchmarkCase, ops) / ops;
+      }
+      return nanosPerOp;
+   }
+
+   private static int calibrate(Case benchmarkCase) {
+      int ops = 1;
+      long nanos;
+      while ((nanos = time(benchmarkCase, ops)) < ITERATION_NANOS / 20 && ops < Integer.MAX_VALUE / 2) {
+         ops *= 2;
+      }
+      return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (long) ops * ITERATION_NANOS / Math.max(1, nanos)));
+   }
+
+   private static long time(Case benchmarkCase, int ops) {
+      long start = System.nanoTime();
+      sink += benchmarkCase.run(ops);
+      return System.nanoTime() - start;
+   }
+
+   private static void report(String name, double[] nanosPerOp) {
+      double mean = 0;
+      for (double value : nanosPerOp) {
+         mean += value;
+      }
+      mean /= nanosPerOp.length;
+      double variance = 0;
+      for (double value : nanosPerOp) {
+         variance += (value - mean) * (value - mean);
+      }
+      double error = Math.sqrt(variance / (nanosPerOp.length - 1));
+      System.out.printf("%-40s %12.2f %10.2f %,16.0f%n", name, mean, error, 1e9 / mean);
+   }
+}
@@ -0,0 +1,63 @@
+package benchmark;
+
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.journal.JournalRecovery;
+import model.journal.JournalScan;
+import model.journal.JournalingBlackEngine;
+import model.journal.RoundJournal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Cost of journaling a round (4 players and the house, delay 0) compared with the same round
+ * unjournaled, followed by the time to recover balances from the journal that was written.
+ * <p>
+ * Usage: {@code JournalBenchmark}
+ */
+public class JournalBenchmark {
+   private static final int PLAYERS = 4;
+
+   public static void main(String[] args) throws IOException {
+      Path file = Files.createTempFile("journal", ".bin");
+      Files.delete(file);
+      try (JournalingBlackEngine journaled = new JournalingBlackEngine(
+            ModelBenchmarks.newEngine(0), new RoundJournal(file))) {
+         for (int i = PLAYERS; i > 0; i--) {
+            journaled.addPerson(ModelBenchmarks.newEngine(PLAYERS).getPerson(String.valueOf(i)));
+         }
+
+         new Harness()
+               .add("round", round(ModelBenchmarks.newEngine(PLAYERS)))
+               .add("round (journaled)", round(journaled))
+               .run(null);
+      }
+
+      long start = System.nanoTime();
+      JournalScan scan = JournalRecovery.recover(file, ModelBenchmarks.newEngine(0));
+      long elapsed = System.nanoTime() - start;
+      System.out.printf("recovery: %s in %.1f ms (%.0f rounds/s)%n", scan, elapsed / 1e6,
+            scan.getRounds() * 1e9 / elapsed);
+      Files.delete(file);
+   }
+
+   private static Harness.Case round(BlackEngine engine) {
+      return new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               for (Player player : engine.getAllPersons()) {
+                  engine.placeBet(player, 1);
+                  engine.dealPerson(player, 0);
+               }
+               engine.dealHouse(0);
+               total += engine.getPerson("1").getPoints();
+            }
+            return total;
+         }
+      };
+   }
+}
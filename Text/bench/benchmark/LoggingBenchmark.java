@@ -0,0 +1,81 @@
+package benchmark;
+
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import util.logging.AsyncBatchingHandler;
+import view.LoggingBlackEngineCallback;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Cost of a round (4 players and the house, delay 0) with every card logged at FINE to a file,
+ * written directly by a {@link FileHandler} compared with through an {@link AsyncBatchingHandler}.
+ * Records dropped by the async handler are reported, since a full queue would flatter it.
+ * <p>
+ * Usage: {@code LoggingBenchmark}
+ */
+public class LoggingBenchmark {
+   private static final int PLAYERS = 4;
+
+   public static void main(String[] args) throws IOException {
+      Path dir = Files.createTempDirectory("logging");
+      FileHandler direct = fileHandler(dir.resolve("direct%g.log"));
+      AsyncBatchingHandler async = new AsyncBatchingHandler(fileHandler(dir.resolve("async%g.log")));
+
+      new Harness()
+            .add("round (no logging)", round(ModelBenchmarks.newEngine(PLAYERS), null))
+            .add("round (FINE, FileHandler)", round(ModelBenchmarks.newEngine(PLAYERS), direct))
+            .add("round (FINE, async batched)", round(ModelBenchmarks.newEngine(PLAYERS), async))
+            .run(null);
+
+      async.close();
+      direct.close();
+      System.out.printf("async records dropped: %,d%n", async.getDropped());
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+         for (Path file : files) {
+            Files.delete(file);
+         }
+      }
+      Files.delete(dir);
+   }
+
+   private static FileHandler fileHandler(Path pattern) throws IOException {
+      FileHandler handler = new FileHandler(pattern.toString(), 16 << 20, 2, false);
+      handler.setFormatter(new SimpleFormatter());
+      handler.setLevel(Level.FINE);
+      return handler;
+   }
+
+   private static Harness.Case round(BlackEngine engine, Handler handler) {
+      if (handler != null) {
+         Logger logger = Logger.getAnonymousLogger();
+         logger.setUseParentHandlers(false);
+         logger.setLevel(Level.FINE);
+         logger.addHandler(handler);
+         engine.addBlackEngineCallback(new LoggingBlackEngineCallback(logger));
+      }
+      return new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               for (Player player : engine.getAllPersons()) {
+                  engine.placeBet(player, 1);
+                  engine.dealPerson(player, 0);
+               }
+               engine.dealHouse(0);
+               total += engine.getPerson("1").getPoints();
+            }
+            return total;
+         }
+      };
+   }
+}
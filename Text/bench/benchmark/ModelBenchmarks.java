@@ -0,0 +1,170 @@
+package benchmark;
+
+import model.BlackEngineImpl;
+import model.Deck;
+import model.PokerCardImpl;
+import model.Shoe;
+import model.SimplePerson;
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import util.random.RandomSource;
+
+/**
+ * Benchmarks for the hot paths of the model package. Run before and after any performance
+ * change to the model and compare the ns/op columns.
+ * <p>
+ * Usage: {@code ModelBenchmarks [nameFilter]}
+ */
+public class ModelBenchmarks {
+   public static void main(String[] args) {
+      harness().run(args.length > 0 ? args[0] : null);
+   }
+
+   public static Harness harness() {
+      Harness harness = new Harness();
+
+      for (String source : new String[]{"secure", "xoshiro"}) {
+         Deck deck = new Deck(ShuffleBenchmark.create(source, 42));
+         harness.add("Deck.shuffle (" + source + ")", new Harness.Case() {
+            @Override
+            public long run(int ops) {
+               for (int i = 0; i < ops; i++) {
+                  deck.shuffle();
+               }
+               return deck.dealCard().getScore();
+            }
+         });
+      }
+
+      Deck dealingDeck = new Deck(RandomSource.xoshiro(42));
+      harness.add("Deck.dealCard", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               total += dealingDeck.dealCard().getScore();
+            }
+            return total;
+         }
+      });
+      Shoe shoe = new Shoe(6, RandomSource.xoshiro(42));
+      harness.add("Shoe.dealCard (6 decks)", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               total += shoe.dealCard().getScore();
+               if ((i & 7) == 7) {
+                  shoe.endRound();
+               }
+            }
+            return total + shoe.getWaits();
+         }
+      });
+
+      PokerCard[] cards = new PokerCard[PokerCard.DECK_SIZE];
+      PokerCard[] copies = new PokerCard[PokerCard.DECK_SIZE];
+      for (int i = 0; i < cards.length; i++) {
+         cards[i] = new PokerCardImpl(i);
+         copies[(i * 5) % cards.length] = new PokerCardImpl(i);
+      }
+      harness.add("PokerCardImpl.getScore", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               total += cards[i % cards.length].getScore();
+            }
+            return total;
+         }
+      });
+      harness.add("PokerCardImpl.hashCode", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               total += cards[i % cards.length].hashCode();
+            }
+            return total;
+         }
+      });
+      harness.add("PokerCardImpl.equals", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               if (cards[i % cards.length].equals(copies[(i * 3) % copies.length])) {
+                  total++;
+               }
+            }
+            return total;
+         }
+      });
+
+      BlackEngine engine = newEngine(2);
+      Player player = engine.getPerson("1");
+      harness.add("BlackEngineImpl.dealPerson (delay 0)", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            long total = 0;
+            for (int i = 0; i < ops; i++) {
+               engine.dealPerson(player, 0);
+               total += player.getResult();
+            }
+            return total;
+         }
+      });
+      harness.add("BlackEngineImpl.dealHouse (delay 0)", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            for (int i = 0; i < ops; i++) {
+               engine.placeBet(player, 1);
+               engine.dealHouse(0);
+            }
+            return player.getPoints();
+         }
+      });
+      harness.add("BlackEngineImpl.applyWinLoss", new Harness.Case() {
+         @Override
+         public long run(int ops) {
+            player.setPoints(1_000_000);
+            player.setBet(1);
+            for (int i = 0; i < ops; i++) {
+               engine.applyWinLoss(player, 30 + (i & 15));
+            }
+            return player.getPoints();
+         }
+      });
+
+      for (int count : new int[]{10, 1000}) {
+         BlackEngine populated = newEngine(count);
+         harness.add("BlackEngineImpl.getAllPersons (" + count + ")", new Harness.Case() {
+            @Override
+            public long run(int ops) {
+               long total = 0;
+               for (int i = 0; i < ops; i++) {
+                  total += populated.getAllPersons().size();
+               }
+               return total;
+            }
+         });
+      }
+
+      return harness;
+   }
+
+   /**
+    * @param players number of players to add (ids "1" upwards)
+    *
+    * @return an engine with a seeded deck and a no-op callback
+    */
+   static BlackEngine newEngine(int players) {
+      BlackEngine engine = new BlackEngineImpl(RandomSource.xoshiro(42));
+      engine.addBlackEngineCallback(new NoOpCallback());
+      for (int i = players; i > 0; i--) {
+         engine.addPerson(new SimplePerson(String.valueOf(i), "Player " + i, 1_000_000));
+      }
+      return engine;
+   }
+}
@@ -0,0 +1,20 @@
+package benchmark;
+
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import view.interfaces.BlackEngineCallback;
+
+/**
+ * Callback that does nothing, so engine benchmarks measure the callback fan-out but not a view
+ */
+public class NoOpCallback implements BlackEngineCallback {
+   //@formatter:off
+   @Override public void nextCard(Player player, PokerCard card, BlackEngine engine)  { }
+   @Override public void bustCard(Player player, PokerCard card, BlackEngine engine)  { }
+   @Override public void result(Player player, int result, BlackEngine engine)       { }
+   @Override public void nextHouseCard(PokerCard card, BlackEngine engine)            { }
+   @Override public void houseBustCard(PokerCard card, BlackEngine engine)            { }
+   @Override public void houseResult(int result, BlackEngine engine)                  { }
+   //@formatter:on
+}
@@ -0,0 +1,87 @@
+package benchmark;
+
+import model.Deck;
+import util.random.RandomSource;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures the cost of {@link Deck#shuffle()} for each {@link RandomSource}, first on a single
+ * thread and then with every core shuffling its own deck at once (which is where the
+ * synchronized SecureRandom falls over).
+ * <p>
+ * Usage: {@code ShuffleBenchmark [shufflesPerIteration]}
+ */
+public class ShuffleBenchmark {
+   private static final int WARMUP_ITERATIONS = 3;
+   private static final int MEASURED_ITERATIONS = 5;
+
+   public static void main(String[] args) throws InterruptedException {
+      int shuffles = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+      int threads = Runtime.getRuntime().availableProcessors();
+
+      System.out.printf("%-20s %14s %14s%n", "Source", "ns/shuffle", threads + " thread(s)");
+      for (String name : new String[]{"secure", "splittable", "xoshiro", "threadLocal"}) {
+         double single = measure(name, shuffles, 1);
+         double contended = measure(name, shuffles, threads);
+         System.out.printf("%-20s %14.1f %14.1f%n", create(name, 0), single, contended);
+      }
+   }
+
+   static RandomSource create(String name, long seed) {
+      switch (name) {
+         case "secure":
+            return RandomSource.secure();
+         case "splittable":
+            return RandomSource.splittable(seed);
+         case "xoshiro":
+            return RandomSource.xoshiro(seed);
+         case "threadLocal":
+            return RandomSource.threadLocal();
+         default:
+            throw new IllegalArgumentException("Unknown random source " + name);
+      }
+   }
+
+   /**
+    * @return average wall clock nanoseconds per shuffle, per thread
+    */
+   private static double measure(String name, int shuffles, int threads) throws InterruptedException {
+      for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+         runThreads(name, shuffles, threads);
+      }
+      long nanos = 0;
+      for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+         nanos += runThreads(name, shuffles, threads);
+      }
+      return (double) nanos / MEASURED_ITERATIONS / shuffles;
+   }
+
+   private static long runThreads(String name, int shuffles, int threads) throws InterruptedException {
+      CountDownLatch start = new CountDownLatch(1);
+      CountDownLatch done = new CountDownLatch(threads);
+      for (int t = 0; t < threads; t++) {
+         // every thread gets its own deck; the shared sources (secure, threadLocal) are shared as they would be in an engine
+         Deck deck = new Deck(create(name, t + 1));
+         new Thread(new Runnable() {
+            @Override
+            public void run() {
+               try {
+                  start.await();
+                  for (int i = 0; i < shuffles; i++) {
+                     deck.shuffle();
+                  }
+               } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+               } finally {
+                  done.countDown();
+               }
+            }
+         }).start();
+      }
+      long begin = System.nanoTime();
+      start.countDown();
+      done.await();
+      return System.nanoTime() - begin;
+   }
+}
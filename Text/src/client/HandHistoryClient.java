@@ -0,0 +1,29 @@
+package client;
+
+import model.history.text.HandHistoryParser;
+import model.history.text.HandHistoryStatistics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Console client that parses a hand history text file and prints per player statistics.
+ * <p>
+ * Usage: {@code HandHistoryClient [file]} (defaults to HandHistoryExample.txt)
+ */
+public class HandHistoryClient {
+   public static void main(String[] args) throws IOException {
+      Path path = Paths.get(args.length > 0 ? args[0] : "HandHistoryExample.txt");
+
+      HandHistoryStatistics statistics = new HandHistoryStatistics();
+      HandHistoryParser parser = new HandHistoryParser(statistics);
+      long start = System.nanoTime();
+      parser.parse(path);
+      double seconds = (System.nanoTime() - start) / 1e9;
+
+      System.out.print(statistics);
+      System.out.printf("Parsed %,d lines (%,d bytes) in %.3fs, %.1f MB/s%n",
+            parser.getLines(), parser.getBytes(), seconds, parser.getBytes() / 1e6 / seconds);
+   }
+}
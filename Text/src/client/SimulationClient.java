@@ -0,0 +1,22 @@
+package client;
+
+import model.sim.ParallelSimulator;
+import model.sim.SimulationResult;
+
+/**
+ * Console client that runs headless rounds to validate the house edge.
+ * <p>
+ * Usage: {@code SimulationClient [rounds] [playersPerRound] [seed]}
+ */
+public class SimulationClient {
+   public static void main(String[] args) {
+      long rounds = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+      int players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+      long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+      ParallelSimulator simulator = new ParallelSimulator(players, seed);
+      SimulationResult result = simulator.run(rounds);
+      System.out.printf("Seed %d, parallelism %d%n", seed, simulator.getParallelism());
+      System.out.print(result);
+   }
+}
@@ -1,18 +1,92 @@
 package model;
 
+import model.interfaces.AsyncBlackEngine;
 import model.interfaces.BlackEngine;
 import model.interfaces.Player;
 import model.interfaces.PokerCard;
+import util.random.RandomSource;
 import view.interfaces.BlackEngineCallback;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BlackEngineImpl implements AsyncBlackEngine {
+   private final SortedPlayerIndex players = new SortedPlayerIndex();
+   private static final BlackEngineCallback[] NO_CALLBACKS = new BlackEngineCallback[0];
+   // hand state returned by dealNextCard: the score, plus flags
+   private static final int SCORE_MASK = 0xff;
+   private static final int FINISHED = 1 << 8;
+   private static final int BUSTED = 1 << 9;
+   private final List<BlackEngineCallback> gameEngineCallbacks;
+   // copy of gameEngineCallbacks iterated by the dealing path, by index (no Iterator per card);
+   // replaced (under the list's lock) whenever a callback is added or removed
+   private volatile BlackEngineCallback[] callbacks = NO_CALLBACKS;
+   private final RandomSource randomSource;
+   private final ScheduledExecutorService scheduler;
+   // hands dealt asynchronously may draw from the deck on different scheduler threads
+   private final Object deckLock = new Object();
+   // null until first dealt from, unless given to the constructor
+   private CardSource cards;
+
+   public BlackEngineImpl() {
+      this(RandomSource.secure());
+   }
+
+   /**
+    * @param randomSource random source for this engine's decks, e.g. {@link RandomSource#secure()}
+    *                     for live play or a seeded source for simulations and repeatable tests
+    *                     (the engine's games are then reproducible, see {@link model.replay})
+    */
+   public BlackEngineImpl(RandomSource randomSource) {
+      this(randomSource, defaultScheduler());
+   }
 
-public class BlackEngineImpl implements BlackEngine {
-   // Using constant value for seed allows for repeatable tests
-   static private int seed = 0; // x12345678;
-   private final Map<String, Player> players = new HashMap<>();
-   private final ArrayList<BlackEngineCallback> gameEngineCallbacks = new ArrayList<>();
-   private Deck deck;
+   /**
+    * @param randomSource random source for this engine's decks
+    * @param scheduler    scheduler used to pace cards for {@link #dealPersonAsync(Player, int)} and
+    *                     {@link #dealHouseAsync(int)}, usually shared between many engines
+    */
+   public BlackEngineImpl(RandomSource randomSource, ScheduledExecutorService scheduler) {
+      this(randomSource, scheduler, new ArrayList<BlackEngineCallback>());
+   }
+
+   /**
+    * For subclasses that need a different callback list, e.g. the copy-on-write one used by
+    * {@link ConcurrentBlackEngineImpl}
+    *
+    * @param randomSource        random source for this engine's decks
+    * @param scheduler           scheduler used to pace asynchronous deals
+    * @param gameEngineCallbacks (empty) list of callbacks, called in order
+    */
+   protected BlackEngineImpl(RandomSource randomSource, ScheduledExecutorService scheduler,
+                             List<BlackEngineCallback> gameEngineCallbacks) {
+      this.randomSource = Objects.requireNonNull(randomSource);
+      this.scheduler = Objects.requireNonNull(scheduler);
+      this.gameEngineCallbacks = gameEngineCallbacks;
+   }
+
+   /**
+    * Deals from {@code cards} instead of a single {@link Deck}, e.g. a {@link Shoe}
+    *
+    * @param cards     where cards are dealt from, used by this engine only
+    * @param scheduler scheduler used to pace asynchronous deals
+    */
+   public BlackEngineImpl(CardSource cards, ScheduledExecutorService scheduler) {
+      this(RandomSource.secure(), scheduler);
+      this.cards = Objects.requireNonNull(cards);
+   }
+
+   /**
+    * @param cards where cards are dealt from, e.g. {@code new Shoe(6, RandomSource.secure())}
+    */
+   public BlackEngineImpl(CardSource cards) {
+      this(cards, defaultScheduler());
+   }
 
    /**
     * Causes the currently executing thread to sleep (temporarily cease
@@ -53,11 +127,18 @@ public class BlackEngineImpl implements BlackEngine {
     */
    @Override
    public void dealPerson(Player player, int delay) throws IllegalArgumentException {
-      int score = getScore(player, delay);
+      checkDelay(delay);
+      finishPerson(player, getScore(player, delay));
+   }
 
+   /**
+    * Steps 5 and 6 of {@link #dealPerson(Player, int)}
+    */
+   private void finishPerson(Player player, int score) {
       // call all registered callbacks with players final score
-      for (BlackEngineCallback gameEngineCallback : gameEngineCallbacks) {
-         gameEngineCallback.result(player, score, this);
+      BlackEngineCallback[] callbacks = this.callbacks;
+      for (int i = 0; i < callbacks.length; i++) {
+         callbacks[i].result(player, score, this);
       }
 
       // If this were put before BlackEngineCallback.result, then there would be no need
@@ -67,6 +148,12 @@ public class BlackEngineImpl implements BlackEngine {
 
    }
 
+   private static void checkDelay(int delay) {
+      if (delay < 0) {
+         throw new IllegalArgumentException("delay must not be negative");
+      }
+   }
+
    /**
     * <pre>Helper function to deal cards to a player or dealer:
     *
@@ -82,59 +169,67 @@ public class BlackEngineImpl implements BlackEngine {
     * @param delay  the delay between cards being dealt (in milliseconds (ms))
     */
    private int getScore(Player player, int delay) {
-      if (Objects.isNull(deck)) {
-         this.deck = newDeck();
-      }
-
-      int score = 0;
-      int cardScore = 0;
-      PokerCard card;
-      boolean finished = false;
-      while (!finished) {
-         // The score isn't updated until the next iteration of the loop, that way
-         // if we bust, the score stays at the last valid result.
-         score += cardScore;
-
-         card = deck.dealCard();
+      int hand = 0;
+      do {
+         hand = dealNextCard(player, hand & SCORE_MASK);
+         // checkDelay has ruled out negative delays, this just skips sleeping for 0
+         if ((hand & BUSTED) == 0 && delay > 0) {
+            wait(delay);
+         }
+      } while ((hand & FINISHED) == 0);
 
-         cardScore = card.getScore();
+      // if score is anything other than exactly 42, then we busted.
+      return hand & SCORE_MASK;
+   }
 
-         if (score + cardScore == BUST_LEVEL) {
-            finished = true;
-            score += cardScore;
-         }
-         else if (score + cardScore > BUST_LEVEL) {
-            for (BlackEngineCallback gameEngineCallback : gameEngineCallbacks) {
-               if (Objects.nonNull(player)) {
-                  gameEngineCallback.bustCard(player, card, this);
-               }
-               else {
-                  gameEngineCallback.houseBustCard(card, this);
-               }
-            }
-            break;
+   /**
+    * Deals a single card and calls the matching callbacks. The hand is passed and returned as a
+    * packed int rather than an object, so dealing allocates nothing.
+    *
+    * @param player player being dealt to (or null for the house)
+    * @param score  score of the hand so far
+    *
+    * @return the new score, with {@link #FINISHED} set when the hand reaches BUST_LEVEL exactly or
+    *       busts, and {@link #BUSTED} if it busts. The score isn't updated by a bust card, so it
+    *       stays at the last valid result.
+    */
+   private int dealNextCard(Player player, int score) {
+      PokerCard card;
+      synchronized (deckLock) {
+         if (Objects.isNull(cards)) {
+            this.cards = newDeck();
          }
+         card = cards.dealCard();
+      }
 
-         for (BlackEngineCallback gameEngineCallback : gameEngineCallbacks) {
-            if (Objects.nonNull(player)) {
-               gameEngineCallback.nextCard(player, card, this);
+      BlackEngineCallback[] callbacks = this.callbacks;
+      int cardScore = card.getScore();
+      if (score + cardScore > BUST_LEVEL) {
+         for (int i = 0; i < callbacks.length; i++) {
+            if (player != null) {
+               callbacks[i].bustCard(player, card, this);
             }
             else {
-               gameEngineCallback.nextHouseCard(card, this);
+               callbacks[i].houseBustCard(card, this);
             }
          }
-
-         wait(delay);
+         return score | FINISHED | BUSTED;
       }
 
-      // if score is anything other than exactly 42, then we busted.
-      return score;
+      score += cardScore;
+      for (int i = 0; i < callbacks.length; i++) {
+         if (player != null) {
+            callbacks[i].nextCard(player, card, this);
+         }
+         else {
+            callbacks[i].nextHouseCard(card, this);
+         }
+      }
+      return score == BUST_LEVEL ? score | FINISHED : score;
    }
 
    private Deck newDeck() {
-      Deck deck = new Deck(seed);
-      // after seed is set on first deck instantiation, seed is set to 0 causing `Deck(seed)` to ignore seed
-      seed = 0;
+      Deck deck = new Deck(randomSource);
       deck.shuffle();
       return deck;
    }
@@ -161,7 +256,20 @@ public class BlackEngineImpl implements BlackEngine {
     */
    @Override
    public void dealHouse(int delay) throws IllegalArgumentException {
-      int score = getScore(null, delay);
+      checkDelay(delay);
+      settleHouse(getScore(null, delay));
+   }
+
+   /**
+    * Settles the round once the house has its result (see the two notes on {@link #dealHouse(int)})
+    */
+   private void settleHouse(int score) {
+      // between rounds, the only safe time for a shoe to be changed
+      synchronized (deckLock) {
+         if (Objects.nonNull(cards)) {
+            cards.endRound();
+         }
+      }
 
       /*
        * IMPORTANT NOTE 1: At the end of the round but before calling calling {@link BlackEngineCallback#houseResult(int, BlackEngine)}
@@ -169,14 +277,16 @@ public class BlackEngineImpl implements BlackEngine {
        * to update each player's points
        */
 
-      // Oh how painful life is without lambdas (we could iterate players.values(), but lets spice it up)
-      for (Map.Entry<String, Player> entry : players.entrySet()) {
-         Player player = entry.getValue();
-         applyWinLoss(player, score);
+      // the snapshot is cached by the index, so both loops below iterate the same (sorted) list,
+      // and it's random access, so index it rather than allocate an Iterator per loop
+      List<Player> roundPlayers = players.snapshot();
+      for (int i = 0; i < roundPlayers.size(); i++) {
+         applyWinLoss(roundPlayers.get(i), score);
       }
 
-      for (BlackEngineCallback gameEngineCallback : gameEngineCallbacks) {
-         gameEngineCallback.houseResult(score, this);
+      BlackEngineCallback[] callbacks = this.callbacks;
+      for (int i = 0; i < callbacks.length; i++) {
+         callbacks[i].houseResult(score, this);
       }
 
       /*
@@ -186,11 +296,42 @@ public class BlackEngineImpl implements BlackEngine {
        */
 
       // This better belongs in applyWinLoss (but must follow spec)
-      for (Player player : players.values()) {
-         player.resetBet();
+      for (int i = 0; i < roundPlayers.size(); i++) {
+         roundPlayers.get(i).resetBet();
       }
    }
 
+   /**
+    * Deals to {@code player} without blocking: each card is revealed by a task on this engine's
+    * scheduler, {@code delay} ms after the previous one.
+    * <p>
+    * Hands dealt concurrently on the same engine draw from the same deck, so their cards interleave;
+    * chain the returned futures if hands must be dealt one after another.
+    *
+    * @see AsyncBlackEngine#dealPersonAsync(Player, int)
+    */
+   @Override
+   public CompletableFuture<Integer> dealPersonAsync(Player player, int delay) throws IllegalArgumentException {
+      return dealAsync(Objects.requireNonNull(player), delay);
+   }
+
+   /**
+    * Deals to the house without blocking, then settles the round on the scheduler thread.
+    *
+    * @see AsyncBlackEngine#dealHouseAsync(int)
+    */
+   @Override
+   public CompletableFuture<Integer> dealHouseAsync(int delay) throws IllegalArgumentException {
+      return dealAsync(null, delay);
+   }
+
+   private CompletableFuture<Integer> dealAsync(Player player, int delay) {
+      checkDelay(delay);
+      CompletableFuture<Integer> future = new CompletableFuture<>();
+      scheduler.execute(new ScheduledHand(player, delay, future));
+      return future;
+   }
+
    /**
     * <pre>
     * A player's bet is settled by this method
@@ -225,7 +366,7 @@ public class BlackEngineImpl implements BlackEngine {
     */
    @Override
    public void addPerson(Player player) {
-      players.put(player.getPersonId(), player);
+      players.put(player);
    }
 
    /**
@@ -277,7 +418,11 @@ public class BlackEngineImpl implements BlackEngine {
     */
    @Override
    public void addBlackEngineCallback(BlackEngineCallback gameEngineCallback) {
-      this.gameEngineCallbacks.add(Objects.requireNonNull(gameEngineCallback));
+      Objects.requireNonNull(gameEngineCallback);
+      synchronized (gameEngineCallbacks) {
+         gameEngineCallbacks.add(gameEngineCallback);
+         callbacks = gameEngineCallbacks.toArray(NO_CALLBACKS);
+      }
    }
 
    /**
@@ -289,7 +434,11 @@ public class BlackEngineImpl implements BlackEngine {
     */
    @Override
    public boolean removeBlackEngineCallback(BlackEngineCallback gameEngineCallback) {
-      return this.gameEngineCallbacks.remove(gameEngineCallback);
+      synchronized (gameEngineCallbacks) {
+         boolean removed = gameEngineCallbacks.remove(gameEngineCallback);
+         callbacks = gameEngineCallbacks.toArray(NO_CALLBACKS);
+         return removed;
+      }
    }
 
    /**
@@ -301,13 +450,15 @@ public class BlackEngineImpl implements BlackEngine {
     */
    @Override
    public Collection<Player> getAllPersons() {
-      // Persons should be sorted by playerId automatically, as ArrayList constructor will sort by `compareTo()`
-      return new ArrayList<>(players.values());
+      // maintained in player id order by the index, and cached until the next add/remove
+      return players.snapshot();
    }
 
    /**
     * A debug method to return a "HALF" deck of cards containing 28 unique cards (8 through to Ace) in<br>
     * random/shuffled order (i.e. should return a new deck that is random WRT previous one)
+    * <p>
+    * This is always a new single deck, even when the engine deals from a {@link Shoe}
     *
     * @return a Deque (specific type of Collection) of PokerCard
     *
@@ -318,4 +469,66 @@ public class BlackEngineImpl implements BlackEngine {
       return newDeck().asLinkedList();
    }
 
+   /**
+    * Deals one card each time it runs, then reschedules itself {@code delay} ms later until the hand
+    * is finished, so no thread ever sleeps between cards. Unlike the blocking path there is no
+    * delay after the last card.
+    */
+   private final class ScheduledHand implements Runnable {
+      // player being dealt to (or null for the house)
+      private final Player player;
+      private final int delay;
+      private final CompletableFuture<Integer> future;
+      private int hand = 0;
+
+      ScheduledHand(Player player, int delay, CompletableFuture<Integer> future) {
+         this.player = player;
+         this.delay = delay;
+         this.future = future;
+      }
+
+      @Override
+      public void run() {
+         try {
+            hand = dealNextCard(player, hand & SCORE_MASK);
+            if ((hand & FINISHED) == 0) {
+               scheduler.schedule(this, delay, TimeUnit.MILLISECONDS);
+               return;
+            }
+            int score = hand & SCORE_MASK;
+            if (Objects.nonNull(player)) {
+               finishPerson(player, score);
+            }
+            else {
+               settleHouse(score);
+            }
+            future.complete(score);
+         } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+         }
+      }
+   }
+
+   /**
+    * @return the scheduler shared by all engines that weren't given one
+    */
+   static ScheduledExecutorService defaultScheduler() {
+      return DefaultScheduler.INSTANCE;
+   }
+
+   /**
+    * Lazily created scheduler shared by all engines that weren't given one
+    */
+   private static final class DefaultScheduler {
+      static final ScheduledExecutorService INSTANCE = new ScheduledThreadPoolExecutor(2, new ThreadFactory() {
+         private final AtomicInteger count = new AtomicInteger();
+
+         @Override
+         public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "BlackEngine-dealer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+         }
+      });
+   }
 }
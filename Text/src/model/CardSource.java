@@ -0,0 +1,28 @@
+package model;
+
+/**
+ * Where an engine's cards come from: a single {@link Deck} reshuffled whenever it runs out, or a
+ * multi-deck {@link Shoe} reshuffled between rounds. Card indexes are {@link PackedCards} indexes.
+ * <p>
+ * Implementations need not be thread-safe, the engine serializes access.
+ */
+public interface CardSource {
+   /**
+    * @return index of the next card
+    */
+   int dealCardIndex();
+
+   /**
+    * @return the next card
+    */
+   default PokerCardImpl dealCard() {
+      return PackedCards.toCard(dealCardIndex());
+   }
+
+   /**
+    * Called by the engine once a round has been settled, the only time a shoe may be changed
+    * without splitting a hand across two shoes
+    */
+   default void endRound() {
+   }
+}
@@ -0,0 +1,39 @@
+package model;
+
+import util.random.RandomSource;
+import view.interfaces.BlackEngineCallback;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Thread-safe variant of {@link BlackEngineImpl} for engines shared between threads (e.g. the
+ * Swing executor, timers and the EDT). Players are held by the engine's {@link SortedPlayerIndex},
+ * whose lookups and sorted snapshots don't lock, and callbacks are kept in a
+ * {@link CopyOnWriteArrayList} so they can be added or removed while a hand is being dealt.
+ * No operation takes a global lock.
+ * <p>
+ * NOTE: the Player objects themselves are not made thread-safe, concurrent bets for the same
+ * player are still last-writer-wins.
+ */
+public class ConcurrentBlackEngineImpl extends BlackEngineImpl {
+   public ConcurrentBlackEngineImpl() {
+      this(RandomSource.secure());
+   }
+
+   /**
+    * @param randomSource random source for this engine's decks, must be thread-safe if hands are
+    *                     dealt from several threads (e.g. {@link RandomSource#threadLocal()})
+    */
+   public ConcurrentBlackEngineImpl(RandomSource randomSource) {
+      this(randomSource, defaultScheduler());
+   }
+
+   /**
+    * @param randomSource random source for this engine's decks
+    * @param scheduler    scheduler used to pace asynchronous deals
+    */
+   public ConcurrentBlackEngineImpl(RandomSource randomSource, ScheduledExecutorService scheduler) {
+      super(randomSource, scheduler, new CopyOnWriteArrayList<BlackEngineCallback>());
+   }
+}
@@ -2,18 +2,21 @@ package model;
 
 import model.interfaces.PokerCard;
 import util.Randomizer;
+import util.random.RandomSource;
 
-import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Random;
 
 /**
  * Deck of PokerCards
  */
-public class Deck {
+public class Deck implements CardSource {
    public static final int NUM_CARDS = 28;
-   private final PokerCardImpl[] gCards = new PokerCardImpl[NUM_CARDS];
+   // card indexes (see PackedCards), mapped back to shared PokerCardImpl instances when dealt
+   private final byte[] gCards = new byte[NUM_CARDS];
    // We will use a secure randomizer (good practice for gambling apps)
-   private transient Randomizer r = Randomizer.getRandomizer();
+   private transient RandomSource r = RandomSource.secure();
    private int position;
 
    /**
@@ -22,7 +25,7 @@ public class Deck {
    public Deck() {
       this.position = 0;
       for (int i = 0; i < NUM_CARDS; i++) {
-         this.gCards[i] = new PokerCardImpl(i);
+         this.gCards[i] = (byte) i;
       }
    }
 
@@ -33,13 +36,34 @@ public class Deck {
    }
 
    /**
-    * @param seed randomizer seed
+    * Create deck drawing from its own random source rather than the shared {@link Randomizer},
+    * e.g. one deck per simulation worker
+    *
+    * @param random random source used by {@link #shuffle()}
+    */
+   public Deck(Random random) {
+      this(RandomSource.of(random));
+   }
+
+   /**
+    * Create deck with a pluggable random source (see {@link RandomSource} for the choices)
+    *
+    * @param randomSource random source used by {@link #shuffle()}
+    */
+   public Deck(RandomSource randomSource) {
+      this();
+      this.r = Objects.requireNonNull(randomSource);
+   }
+
+   /**
+    * Makes this deck's shuffles repeatable: the deck gets its own seeded source, so the same seed
+    * (including 0) always gives the same sequence of shuffles. The shared {@link Randomizer} can't
+    * be used for this, seeding a SecureRandom only adds to its entropy.
+    *
+    * @param seed seed
     */
    public void setSeed(long seed) {
-      if (seed != 0L) {
-         this.r = Randomizer.getRandomizer();
-         this.r.setSeed(seed);
-      }
+      this.r = RandomSource.xoshiro(seed);
    }
 
    /**
@@ -59,7 +83,7 @@ public class Deck {
    public void shuffle() {
       for (int i = 0; i < NUM_CARDS; i++) {
          int j = i + this.r.nextInt(NUM_CARDS - i);
-         PokerCardImpl tempCard = this.gCards[j];
+         byte tempCard = this.gCards[j];
          this.gCards[j] = this.gCards[i];
          this.gCards[i] = tempCard;
       }
@@ -71,7 +95,18 @@ public class Deck {
     *
     * @return PokerCard on top of the deck
     */
+   @Override
    public PokerCardImpl dealCard() {
+      return PackedCards.toCard(dealCardIndex());
+   }
+
+   /**
+    * Same as {@link #dealCard()}, but returns the card's index (see {@link PackedCards})
+    *
+    * @return index of the card on top of the deck
+    */
+   @Override
+   public int dealCardIndex() {
       if (this.position >= NUM_CARDS) {
          reset();
          shuffle();
@@ -84,11 +119,26 @@ public class Deck {
       }
    }
 
+   /**
+    * @return Unused cards in deck as a {@link PackedCards} mask
+    */
+   public long remainingMask() {
+      long mask = 0;
+      for (int i = this.position; i < NUM_CARDS; i++) {
+         mask = PackedCards.add(mask, this.gCards[i]);
+      }
+      return mask;
+   }
+
    /**
     * @return Unused cards in deck, as a LinkedList
     */
    public LinkedList<PokerCard> asLinkedList() {
-      return new LinkedList<>(Arrays.asList(gCards).subList(this.position, NUM_CARDS));
+      LinkedList<PokerCard> cards = new LinkedList<>();
+      for (int i = this.position; i < NUM_CARDS; i++) {
+         cards.add(PackedCards.toCard(this.gCards[i]));
+      }
+      return cards;
    }
 
    // We never call this, but I had the code from a previous gambling project.
@@ -98,11 +148,11 @@ public class Deck {
       StringBuilder s = new StringBuilder();
       s.append("* ");
       for (int i = 0; i < this.position; i++) {
-         s.append(this.gCards[i].toString()).append(" ");
+         s.append(PackedCards.toCard(this.gCards[i]).toString()).append(" ");
       }
       s.append("\n* ");
       for (int i = this.position; i < NUM_CARDS; i++) {
-         s.append(this.gCards[i].toString()).append(" ");
+         s.append(PackedCards.toCard(this.gCards[i]).toString()).append(" ");
       }
       return s.toString();
    }
@@ -0,0 +1,90 @@
+package model;
+
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import view.interfaces.BlackEngineCallback;
+
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Reusable forwarding class for decorators of a {@link BlackEngine} (favour composition over
+ * inheritance). Every call is passed straight through to the wrapped engine; subclasses override
+ * what they need.
+ */
+public abstract class DelegatingBlackEngine implements BlackEngine {
+   private final BlackEngine engine;
+
+   protected DelegatingBlackEngine(BlackEngine engine) {
+      this.engine = Objects.requireNonNull(engine);
+   }
+
+   /**
+    * @return the wrapped engine
+    */
+   public BlackEngine getDelegate() {
+      return engine;
+   }
+
+   @Override
+   public String toString() {
+      return engine.toString();
+   }
+
+   @Override
+   public void dealPerson(Player player, int delay) throws IllegalArgumentException {
+      engine.dealPerson(player, delay);
+   }
+
+   @Override
+   public void dealHouse(int delay) throws IllegalArgumentException {
+      engine.dealHouse(delay);
+   }
+
+   @Override
+   public void applyWinLoss(Player player, int houseResult) {
+      engine.applyWinLoss(player, houseResult);
+   }
+
+   @Override
+   public void addPerson(Player player) {
+      engine.addPerson(player);
+   }
+
+   @Override
+   public Player getPerson(String id) {
+      return engine.getPerson(id);
+   }
+
+   @Override
+   public boolean removePerson(Player player) {
+      return engine.removePerson(player);
+   }
+
+   @Override
+   public boolean placeBet(Player player, int bet) {
+      return engine.placeBet(player, bet);
+   }
+
+   @Override
+   public void addBlackEngineCallback(BlackEngineCallback gameEngineCallback) {
+      engine.addBlackEngineCallback(gameEngineCallback);
+   }
+
+   @Override
+   public boolean removeBlackEngineCallback(BlackEngineCallback gameEngineCallback) {
+      return engine.removeBlackEngineCallback(gameEngineCallback);
+   }
+
+   @Override
+   public Collection<Player> getAllPersons() {
+      return engine.getAllPersons();
+   }
+
+   @Override
+   public Deque<PokerCard> getShuffledHalfDeck() {
+      return engine.getShuffledHalfDeck();
+   }
+}
@@ -0,0 +1,123 @@
+package model;
+
+import model.interfaces.PokerCard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primitive card encoding shared by the engine and the simulators.
+ * <p>
+ * A card is its index 0..27 ({@code suit.ordinal() * NUM_RANKS + value.ordinal()}, the same
+ * index {@link PokerCardImpl} is built from), and a set of cards (a hand, or the cards dealt
+ * from a deck) is a {@code long} bit mask with bit {@code index} set for each card. Scores come
+ * from a precomputed table, and conversion back to {@link PokerCard} returns shared immutable
+ * instances, so none of these methods allocate (other than the List/mask conversions).
+ */
+public final class PackedCards {
+   public static final int NUM_CARDS = PokerCard.DECK_SIZE;
+   /**
+    * Mask with all 28 cards set
+    */
+   public static final long FULL_DECK = (1L << NUM_CARDS) - 1;
+
+   private static final byte[] SCORES = new byte[NUM_CARDS];
+   private static final PokerCardImpl[] CARDS = new PokerCardImpl[NUM_CARDS];
+
+   static {
+      for (int i = 0; i < NUM_CARDS; i++) {
+         CARDS[i] = new PokerCardImpl(i);
+         SCORES[i] = (byte) CARDS[i].getScore();
+      }
+   }
+
+   private PackedCards() {
+   }
+
+   /**
+    * @param card card index
+    *
+    * @return score of the card (Ace=11, J, Q, K=10, all others face value)
+    */
+   public static int score(int card) {
+      return SCORES[card];
+   }
+
+   /**
+    * @param card card index
+    *
+    * @return the shared {@link PokerCardImpl} for {@code card}
+    */
+   public static PokerCardImpl toCard(int card) {
+      return CARDS[card];
+   }
+
+   /**
+    * @param card any PokerCard implementation
+    *
+    * @return the card's index
+    */
+   public static byte indexOf(PokerCard card) {
+      if (card instanceof PokerCardImpl) {
+         return (byte) ((PokerCardImpl) card).getIndex();
+      }
+      return (byte) (card.getSuit().ordinal() * PokerCardImpl.NUM_RANKS + card.getValue().ordinal());
+   }
+
+   public static long add(long cards, int card) {
+      return cards | (1L << card);
+   }
+
+   public static long remove(long cards, int card) {
+      return cards & ~(1L << card);
+   }
+
+   public static boolean contains(long cards, int card) {
+      return (cards & (1L << card)) != 0;
+   }
+
+   public static int count(long cards) {
+      return Long.bitCount(cards);
+   }
+
+   /**
+    * @param cards set of cards
+    *
+    * @return sum of the scores of every card in the set
+    */
+   public static int score(long cards) {
+      int total = 0;
+      while (cards != 0) {
+         total += SCORES[Long.numberOfTrailingZeros(cards)];
+         cards &= cards - 1;
+      }
+      return total;
+   }
+
+   /**
+    * @param cards any PokerCard implementations
+    *
+    * @return the cards as a mask
+    */
+   public static long toMask(Iterable<? extends PokerCard> cards) {
+      long mask = 0;
+      for (PokerCard card : cards) {
+         mask = add(mask, indexOf(card));
+      }
+      return mask;
+   }
+
+   /**
+    * @param cards set of cards
+    *
+    * @return the cards in index order
+    */
+   public static List<PokerCard> toList(long cards) {
+      List<PokerCard> list = new ArrayList<>(count(cards));
+      while (cards != 0) {
+         list.add(CARDS[Long.numberOfTrailingZeros(cards)]);
+         cards &= cards - 1;
+      }
+      return list;
+   }
+}
@@ -17,11 +17,13 @@ public final class PokerCardImpl implements PokerCard {
     * @implNote This implementation uses the integer `gIndex` to represent all information about a card
     */
    private int gIndex;
+   private int score;
    private Value rank = null;
    private Suit suit = null;
 
    public PokerCardImpl() {
       this.gIndex = -1;
+      this.score = scoreOf(this.gIndex % NUM_RANKS);
    }
 
    // NOTE: Constructor added per advice of A1 marker.
@@ -30,6 +32,7 @@ public final class PokerCardImpl implements PokerCard {
       this.suit = suit;
       this.rank = rank;
       this.gIndex = suit.ordinal() * NUM_RANKS + rank.ordinal();
+      this.score = scoreOf(rank.ordinal());
    }
 
    public PokerCardImpl(Value rank, Suit suit) {
@@ -71,7 +74,22 @@ public final class PokerCardImpl implements PokerCard {
     */
    @Override
    public int getScore() {
-      int rank = this.gIndex % NUM_RANKS;
+      return score;
+   }
+
+   /**
+    * @return the index (0..27) of this card, as used by {@link PackedCards}
+    */
+   public int getIndex() {
+      return gIndex;
+   }
+
+   /**
+    * @param rank ordinal of a {@link model.interfaces.PokerCard.Value}
+    *
+    * @return the score of a card of that rank
+    */
+   private static int scoreOf(int rank) {
       switch (rank) {
          case 0:
             return 8;
@@ -130,13 +148,13 @@ public final class PokerCardImpl implements PokerCard {
          return false;
       }
       PokerCardImpl that = (PokerCardImpl) o;
-      return rank == that.rank &&
-            suit == that.suit;
+      // the index encodes both rank and suit
+      return gIndex == that.gIndex;
    }
 
    @Override
    public int hashCode() {
-      return Objects.hash(rank, suit);
+      return gIndex;
    }
 
    /**
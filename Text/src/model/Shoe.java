@@ -0,0 +1,206 @@
+package model;
+
+import util.random.RandomSource;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * A shoe of several shuffled half decks with a cut card.
+ * <p>
+ * Once the cut card has been dealt the current round is finished from the same shoe, and the next
+ * shoe is brought in at {@link #endRound()}. If a shoe runs out completely (100% penetration) the
+ * next shoe is brought in mid-hand.
+ * <p>
+ * The next shoe is shuffled while the current one is being dealt, either
+ * <ul>
+ * <li>on a background executor, so dealing never waits for a shuffle unless a shoe is used up
+ * faster than the next can be shuffled, or</li>
+ * <li>(with no executor) a few Fisher-Yates steps with every card dealt, enough to finish by the
+ * cut card, so the shuffle costs a constant couple of swaps per card instead of a pause between
+ * shoes, with no thread hand-off.</li>
+ * </ul>
+ * The two shoes' card arrays are reused, so changing shoes allocates nothing. Not thread-safe
+ * (the engine serializes access), and shoes come out in the same order for a given seeded source.
+ */
+public class Shoe implements CardSource {
+   public static final double DEFAULT_PENETRATION = 0.75;
+
+   private final int decks;
+   private final int cutCard;
+   private final RandomSource random;
+   private final Executor executor;
+   // Fisher-Yates steps done on the next shoe per card dealt, when shuffling incrementally
+   private final int stepsPerCard;
+   private byte[] cards;
+   private byte[] spare;
+   private CompletableFuture<byte[]> next;
+   // Fisher-Yates steps done so far on spare, when shuffling incrementally
+   private int shuffled;
+   private int position;
+   private long shoes;
+   private long waits;
+
+   /**
+    * @param decks       number of 28 card half decks
+    * @param penetration fraction of the shoe dealt before the cut card, (0, 1]
+    * @param random      random source for the shuffles
+    * @param executor    runs the background shuffle, or null to shuffle the next shoe a little with
+    *                    each card dealt
+    */
+   public Shoe(int decks, double penetration, RandomSource random, Executor executor) {
+      if (decks < 1) {
+         throw new IllegalArgumentException("decks must be >= 1");
+      }
+      if (!(penetration > 0 && penetration <= 1)) {
+         throw new IllegalArgumentException("penetration must be in (0, 1]");
+      }
+      this.decks = decks;
+      this.random = Objects.requireNonNull(random);
+      this.executor = executor;
+      int size = decks * Deck.NUM_CARDS;
+      this.cutCard = Math.max(1, (int) Math.round(size * penetration));
+      this.stepsPerCard = (size - 1 + cutCard - 1) / cutCard;
+      this.cards = fill(new byte[size]);
+      this.spare = fill(new byte[size]);
+      shuffle(cards, random);
+      prepareNext();
+   }
+
+   /**
+    * A shoe with the default penetration, shuffled incrementally
+    *
+    * @param decks  number of 28 card half decks
+    * @param random random source for the shuffles
+    */
+   public Shoe(int decks, RandomSource random) {
+      this(decks, DEFAULT_PENETRATION, random, null);
+   }
+
+   @Override
+   public int dealCardIndex() {
+      if (position == cards.length) {
+         nextShoe();
+      }
+      if (executor == null) {
+         shuffleSteps(stepsPerCard);
+      }
+      return cards[position++];
+   }
+
+   @Override
+   public void endRound() {
+      if (position >= cutCard) {
+         nextShoe();
+      }
+   }
+
+   public int getDecks() {
+      return decks;
+   }
+
+   /**
+    * @return number of cards in the shoe
+    */
+   public int size() {
+      return cards.length;
+   }
+
+   /**
+    * @return number of cards left before the next shoe
+    */
+   public int remaining() {
+      return cards.length - position;
+   }
+
+   /**
+    * @return position of the cut card
+    */
+   public int getCutCard() {
+      return cutCard;
+   }
+
+   /**
+    * @return number of shoes finished so far
+    */
+   public long getShoes() {
+      return shoes;
+   }
+
+   /**
+    * @return number of times dealing had to wait for the next shoe to be shuffled
+    */
+   public long getWaits() {
+      return waits;
+   }
+
+   private void nextShoe() {
+      byte[] ready;
+      if (executor == null) {
+         if (shuffled < spare.length - 1) {
+            waits++;
+            shuffleSteps(spare.length);
+         }
+         ready = spare;
+      }
+      else {
+         if (!next.isDone()) {
+            waits++;
+         }
+         ready = next.join();
+      }
+      spare = cards;
+      cards = ready;
+      position = 0;
+      shoes++;
+      prepareNext();
+   }
+
+   private void shuffleSteps(int steps) {
+      byte[] target = spare;
+      int end = Math.min(shuffled + steps, target.length - 1);
+      for (int i = shuffled; i < end; i++) {
+         int j = i + random.nextInt(target.length - i);
+         byte card = target[j];
+         target[j] = target[i];
+         target[i] = card;
+      }
+      shuffled = end;
+   }
+
+   private void prepareNext() {
+      if (executor == null) {
+         shuffled = 0;
+         return;
+      }
+      final byte[] target = spare;
+      // join() in nextShoe happens before the next shuffle starts, so the random source is only
+      // ever used by one thread at a time
+      next = CompletableFuture.supplyAsync(new Supplier<byte[]>() {
+         @Override
+         public byte[] get() {
+            shuffle(target, random);
+            return target;
+         }
+      }, executor);
+   }
+
+   private static byte[] fill(byte[] cards) {
+      for (int i = 0; i < cards.length; i++) {
+         cards[i] = (byte) (i % Deck.NUM_CARDS);
+      }
+      return cards;
+   }
+
+   // Fisher-Yates over the whole shoe (the arrays always hold every card, just in another order)
+   private static void shuffle(byte[] cards, RandomSource random) {
+      for (int i = 0; i < cards.length - 1; i++) {
+         int j = i + random.nextInt(cards.length - i);
+         byte card = cards[j];
+         cards[j] = cards[i];
+         cards[i] = card;
+      }
+   }
+}
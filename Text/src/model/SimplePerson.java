@@ -17,6 +17,8 @@ public class SimplePerson implements Player {
    private int points;
    private String playerName;
    private final String playerId;
+   // playerId parsed once for compareTo
+   private final int sortKey;
    private int bet;
    private int result;
 
@@ -31,6 +33,7 @@ public class SimplePerson implements Player {
    public SimplePerson(@NotNull String playerId, @NotNull String playerName, int initialPoints) {
       assert initialPoints >= 0;
       this.playerId = playerId;
+      this.sortKey = sortKey(playerId);
       setPersonName(playerName);
       setPoints(initialPoints);
    }
@@ -155,8 +158,10 @@ public class SimplePerson implements Player {
       // Note that null is not an instance of any class, and e.compareTo(null) should throw a NullPointerException
       Objects.requireNonNull(player);
 
-      int a = stringAsInt(this.getPersonId(), -1);
-      int b = stringAsInt(player.getPersonId(), -1);
+      int a = sortKey;
+      int b = player instanceof SimplePerson
+            ? ((SimplePerson) player).sortKey
+            : sortKey(player.getPersonId());
 
       return Integer.compare(a, b);
    }
@@ -185,6 +190,17 @@ public class SimplePerson implements Player {
       return String.format("Player: id=\"%s\", name=\"%s\", bet=%d, points=%d, RESULT .. %d", getPersonId(), getPersonName(), getBet(), getPoints(), getResult());
    }
 
+   /**
+    * The key players are ordered by, shared with {@link SortedPlayerIndex} so both order alike
+    *
+    * @param id a player id
+    *
+    * @return the id as an int, or -1 if it isn't numeric
+    */
+   static int sortKey(String id) {
+      return stringAsInt(id, -1);
+   }
+
    /**
     * Integer.parseInt with fallback to default value on exception
     *
@@ -0,0 +1,110 @@
+package model;
+
+import model.interfaces.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Players by id, kept in ascending player id order as they are added and removed.
+ * <p>
+ * Each id is parsed once when the player is added (rather than on every comparison), the ordered
+ * set is updated in O(log n), and {@link #snapshot()} returns an immutable list that is cached
+ * until the next add or remove. Lookups by id and snapshot reads don't lock; writers are
+ * serialized.
+ */
+public class SortedPlayerIndex {
+   private final Map<String, Entry> byId = new ConcurrentHashMap<>();
+   // guarded by this
+   private final TreeSet<Entry> ordered = new TreeSet<>();
+   // null when stale
+   private volatile List<Player> snapshot = Collections.emptyList();
+
+   /**
+    * @param player player to add, replacing any player with the same id
+    *
+    * @return the replaced player, or null
+    */
+   public synchronized Player put(Player player) {
+      Entry entry = new Entry(player);
+      Entry previous = byId.put(entry.id, entry);
+      if (previous != null) {
+         ordered.remove(previous);
+      }
+      ordered.add(entry);
+      snapshot = null;
+      return previous == null ? null : previous.player;
+   }
+
+   /**
+    * @param id id of player to remove
+    *
+    * @return the removed player, or null if there was no such player
+    */
+   public synchronized Player remove(String id) {
+      Entry entry = byId.remove(id);
+      if (entry == null) {
+         return null;
+      }
+      ordered.remove(entry);
+      snapshot = null;
+      return entry.player;
+   }
+
+   /**
+    * @param id player id
+    *
+    * @return the player or null if not found
+    */
+   public Player get(String id) {
+      Entry entry = byId.get(id);
+      return entry == null ? null : entry.player;
+   }
+
+   public int size() {
+      return byId.size();
+   }
+
+   /**
+    * @return an unmodifiable list of all players, in ascending player id order
+    */
+   public List<Player> snapshot() {
+      List<Player> current = snapshot;
+      if (current != null) {
+         return current;
+      }
+      synchronized (this) {
+         if (snapshot == null) {
+            List<Player> players = new ArrayList<>(ordered.size());
+            for (Entry entry : ordered) {
+               players.add(entry.player);
+            }
+            snapshot = Collections.unmodifiableList(players);
+         }
+         return snapshot;
+      }
+   }
+
+   private static final class Entry implements Comparable<Entry> {
+      final String id;
+      final int key;
+      final Player player;
+
+      Entry(Player player) {
+         this.player = player;
+         this.id = player.getPersonId();
+         this.key = SimplePerson.sortKey(id);
+      }
+
+      @Override
+      public int compareTo(Entry o) {
+         int result = Integer.compare(key, o.key);
+         // non-numeric ids all share key -1, keep them apart (and stable) by their text
+         return result != 0 ? result : id.compareTo(o.id);
+      }
+   }
+}
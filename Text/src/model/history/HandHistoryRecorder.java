@@ -0,0 +1,100 @@
+package model.history;
+
+import model.PackedCards;
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import view.interfaces.BlackEngineCallback;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Callback that stores every settled hand in a {@link HandHistoryStore}: the cards dealt to each
+ * player during a round are collected and, when the house result is in (by which time
+ * {@link BlackEngine#applyWinLoss(Player, int)} has been applied), written with the bet, results
+ * and change in points. Rounds are numbered on from the last round in the store.
+ * <p>
+ * Add one recorder per engine; it expects a round's callbacks to come from one thread at a time.
+ */
+public class HandHistoryRecorder implements BlackEngineCallback {
+   private final HandHistoryStore store;
+   private final Map<String, Hand> hands = new HashMap<>();
+   private long round;
+
+   public HandHistoryRecorder(HandHistoryStore store) {
+      this.store = store;
+      this.round = store.getLastRound();
+   }
+
+   @Override
+   public void nextCard(Player player, PokerCard card, BlackEngine engine) {
+      handOf(player).add(card);
+   }
+
+   @Override
+   public void bustCard(Player player, PokerCard card, BlackEngine engine) {
+      handOf(player).add(card);
+   }
+
+   @Override
+   public void result(Player player, int result, BlackEngine engine) {
+   }
+
+   @Override
+   public void nextHouseCard(PokerCard card, BlackEngine engine) {
+   }
+
+   @Override
+   public void houseBustCard(PokerCard card, BlackEngine engine) {
+   }
+
+   @Override
+   public void houseResult(int result, BlackEngine engine) {
+      long time = System.currentTimeMillis();
+      round++;
+      try {
+         for (Player player : engine.getAllPersons()) {
+            Hand hand = hands.get(player.getPersonId());
+            if (hand == null || hand.count == 0) {
+               continue;
+            }
+            store.append(round, time, player.getPersonId(), player.getBet(),
+                  player.getPoints() - hand.points, player.getResult(), result, hand.cards, hand.count);
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      } finally {
+         for (Hand hand : hands.values()) {
+            hand.count = 0;
+         }
+      }
+   }
+
+   // the first card of a round also notes the points before the round is settled
+   private Hand handOf(Player player) {
+      Hand hand = hands.get(player.getPersonId());
+      if (hand == null) {
+         hand = new Hand();
+         hands.put(player.getPersonId(), hand);
+      }
+      if (hand.count == 0) {
+         hand.points = player.getPoints();
+      }
+      return hand;
+   }
+
+   private static class Hand {
+      final byte[] cards = new byte[HandRecord.MAX_CARDS];
+      int count;
+      int points;
+
+      void add(PokerCard card) {
+         if (count < cards.length) {
+            cards[count++] = PackedCards.indexOf(card);
+         }
+      }
+   }
+}
@@ -0,0 +1,299 @@
+package model.history;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand history kept in a directory of memory-mapped segment files of fixed width
+ * {@link HandRecord}s ({@code hands-NNNNN.seg}), plus {@code players.txt} which numbers the player
+ * ids (line n is player n).
+ * <p>
+ * Records must be appended in round order (and so in time order). An index of record positions per
+ * player is rebuilt in memory when the store is opened, so "last N hands of a player" reads only
+ * those N records, and round or time ranges are found by binary search rather than by scanning.
+ * Thread-safe.
+ */
+public class HandHistoryStore implements Closeable {
+   public static final int DEFAULT_SEGMENT_RECORDS = 1 << 20;
+
+   private static final String PLAYERS_FILE = "players.txt";
+
+   private final Path directory;
+   private final int segmentRecords;
+   private final List<Segment> segments = new ArrayList<>();
+   private final Map<String, Integer> playerNumbers = new HashMap<>();
+   private final List<String> playerIds = new ArrayList<>();
+   // record positions (segment * segmentRecords + slot) of each player's hands, by player number
+   private final List<Positions> playerHands = new ArrayList<>();
+   private final BufferedWriter playersWriter;
+   private long lastRound = 0;
+   private long lastTime = Long.MIN_VALUE;
+
+   /**
+    * @param directory directory for the store, created if need be
+    *
+    * @throws IOException if the store can't be opened
+    */
+   public HandHistoryStore(Path directory) throws IOException {
+      this(directory, DEFAULT_SEGMENT_RECORDS);
+   }
+
+   /**
+    * @param directory      directory for the store, created if need be
+    * @param segmentRecords records per segment file (must match the value the store was created with)
+    *
+    * @throws IOException if the store can't be opened
+    */
+   public HandHistoryStore(Path directory, int segmentRecords) throws IOException {
+      if (segmentRecords <= 0) {
+         throw new IllegalArgumentException("segmentRecords must be > 0");
+      }
+      this.directory = directory;
+      this.segmentRecords = segmentRecords;
+      Files.createDirectories(directory);
+
+      Path players = directory.resolve(PLAYERS_FILE);
+      if (Files.exists(players)) {
+         for (String id : Files.readAllLines(players, StandardCharsets.UTF_8)) {
+            register(id);
+         }
+      }
+      this.playersWriter = Files.newBufferedWriter(players, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+      try {
+         for (int i = 0; Files.exists(segmentPath(i)); i++) {
+            Segment segment = new Segment(segmentPath(i), segmentRecords);
+            segments.add(segment);
+            for (int slot = 0; slot < segment.size(); slot++) {
+               playerHands.get(segment.player(slot)).add(position(i, slot));
+            }
+            if (segment.size() > 0) {
+               lastRound = segment.round(segment.size() - 1);
+               lastTime = segment.time(segment.size() - 1);
+            }
+         }
+      } catch (IOException | RuntimeException e) {
+         close();
+         throw e;
+      }
+   }
+
+   /**
+    * Stores a hand
+    *
+    * @param round       round number, {@literal >=} the last round stored and {@literal >} 0
+    * @param time        epoch millis the round was settled (clamped so it never goes backwards)
+    * @param playerId    player id
+    * @param bet         the bet
+    * @param delta       points won or lost
+    * @param result      player's result
+    * @param houseResult house result
+    * @param cards       card indexes in the order dealt
+    * @param cardCount   number of cards in cards, at most {@link HandRecord#MAX_CARDS}
+    *
+    * @throws IOException if a new segment file can't be created
+    */
+   public synchronized void append(long round, long time, String playerId, int bet, int delta, int result,
+                                   int houseResult, byte[] cards, int cardCount) throws IOException {
+      if (round <= 0 || round < lastRound) {
+         throw new IllegalArgumentException("Round " + round + " is before last round " + lastRound);
+      }
+      if (cardCount < 0 || cardCount > HandRecord.MAX_CARDS) {
+         throw new IllegalArgumentException("Too many cards: " + cardCount);
+      }
+      Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+      if (segment == null || segment.isFull()) {
+         segment = new Segment(segmentPath(segments.size()), segmentRecords);
+         segments.add(segment);
+      }
+      Integer player = playerNumbers.get(playerId);
+      if (player == null) {
+         player = register(playerId);
+         playersWriter.write(playerId);
+         playersWriter.newLine();
+         playersWriter.flush();
+      }
+      lastRound = round;
+      lastTime = Math.max(lastTime, time);
+      playerHands.get(player).add(position(segments.size() - 1, segment.size()));
+      segment.append(round, lastTime, player, bet, delta, result, houseResult, cards, cardCount);
+   }
+
+   /**
+    * @return the most recent round stored, 0 if none
+    */
+   public synchronized long getLastRound() {
+      return lastRound;
+   }
+
+   /**
+    * @return number of hands stored
+    */
+   public synchronized long size() {
+      return segments.isEmpty() ? 0
+            : (long) (segments.size() - 1) * segmentRecords + segments.get(segments.size() - 1).size();
+   }
+
+   /**
+    * @param playerId player id
+    * @param count    maximum number of hands to return
+    *
+    * @return the player's most recent hands, newest first
+    */
+   public synchronized List<HandRecord> lastHands(String playerId, int count) {
+      Positions hands = handsOf(playerId);
+      if (hands == null) {
+         return Collections.emptyList();
+      }
+      List<HandRecord> records = new ArrayList<>(Math.min(count, hands.size));
+      for (int i = hands.size - 1; i >= 0 && records.size() < count; i--) {
+         records.add(read(hands.values[i], playerId));
+      }
+      return records;
+   }
+
+   /**
+    * @param playerId  player id
+    * @param fromRound first round (inclusive)
+    * @param toRound   last round (inclusive)
+    *
+    * @return the player's hands in the range, oldest first
+    */
+   public synchronized List<HandRecord> hands(String playerId, long fromRound, long toRound) {
+      Positions hands = handsOf(playerId);
+      if (hands == null) {
+         return Collections.emptyList();
+      }
+      // positions are in round order, so binary search for the start of the range
+      int low = 0;
+      int high = hands.size;
+      while (low < high) {
+         int mid = (low + high) >>> 1;
+         if (round(hands.values[mid]) < fromRound) {
+            low = mid + 1;
+         }
+         else {
+            high = mid;
+         }
+      }
+      List<HandRecord> records = new ArrayList<>();
+      for (int i = low; i < hands.size && round(hands.values[i]) <= toRound; i++) {
+         records.add(read(hands.values[i], playerId));
+      }
+      return records;
+   }
+
+   /**
+    * @param fromMillis start of the period (inclusive, epoch millis)
+    * @param toMillis   end of the period (exclusive, epoch millis)
+    *
+    * @return total points won or lost per player id over the period, for players with hands in it
+    */
+   public synchronized Map<String, Long> netResults(long fromMillis, long toMillis) {
+      long[] totals = new long[playerIds.size()];
+      boolean[] played = new boolean[playerIds.size()];
+      for (Segment segment : segments) {
+         int size = segment.size();
+         if (size == 0 || segment.time(size - 1) < fromMillis || segment.time(0) >= toMillis) {
+            continue;
+         }
+         for (int slot = segment.lowerBoundTime(fromMillis); slot < size && segment.time(slot) < toMillis; slot++) {
+            int player = segment.player(slot);
+            totals[player] += segment.delta(slot);
+            played[player] = true;
+         }
+      }
+      Map<String, Long> results = new LinkedHashMap<>();
+      for (int player = 0; player < totals.length; player++) {
+         if (played[player]) {
+            results.put(playerIds.get(player), totals[player]);
+         }
+      }
+      return results;
+   }
+
+   /**
+    * Forces all segments to storage
+    */
+   public synchronized void force() {
+      for (Segment segment : segments) {
+         segment.force();
+      }
+   }
+
+   @Override
+   public synchronized void close() throws IOException {
+      IOException failure = null;
+      for (Segment segment : segments) {
+         try {
+            segment.close();
+         } catch (IOException e) {
+            failure = e;
+         }
+      }
+      segments.clear();
+      if (playersWriter != null) {
+         playersWriter.close();
+      }
+      if (failure != null) {
+         throw failure;
+      }
+   }
+
+   private int register(String playerId) {
+      int player = playerIds.size();
+      playerIds.add(playerId);
+      playerNumbers.put(playerId, player);
+      playerHands.add(new Positions());
+      return player;
+   }
+
+   private Positions handsOf(String playerId) {
+      Integer player = playerNumbers.get(playerId);
+      return player == null ? null : playerHands.get(player);
+   }
+
+   private Path segmentPath(int segment) {
+      return directory.resolve(String.format("hands-%05d.seg", segment));
+   }
+
+   private long position(int segment, int slot) {
+      return (long) segment * segmentRecords + slot;
+   }
+
+   private long round(long position) {
+      return segments.get((int) (position / segmentRecords)).round((int) (position % segmentRecords));
+   }
+
+   private HandRecord read(long position, String playerId) {
+      return segments.get((int) (position / segmentRecords)).read((int) (position % segmentRecords), playerId);
+   }
+
+   /**
+    * Growable array of record positions
+    */
+   private static class Positions {
+      long[] values = new long[8];
+      int size = 0;
+
+      void add(long position) {
+         if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+         }
+         values[size++] = position;
+      }
+   }
+}
@@ -0,0 +1,109 @@
+package model.history;
+
+import model.PackedCards;
+import model.interfaces.PokerCard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One player's hand in one round, as stored by {@link HandHistoryStore}.
+ * <p>
+ * On disk every record is {@link #SIZE} bytes:
+ * <pre>
+ *  0  round       long
+ *  8  time        long (epoch millis)
+ * 16  player      int  (number assigned by the store's player directory)
+ * 20  bet         int
+ * 24  delta       int  (change in points when the round was settled)
+ * 28  result      byte
+ * 29  houseResult byte
+ * 30  cardCount   byte
+ * 31  cards       byte[MAX_CARDS] ({@link PackedCards} indexes)
+ * </pre>
+ */
+public class HandRecord {
+   public static final int SIZE = 40;
+   public static final int MAX_CARDS = 9;
+
+   static final int ROUND = 0;
+   static final int TIME = 8;
+   static final int PLAYER = 16;
+   static final int BET = 20;
+   static final int DELTA = 24;
+   static final int RESULT = 28;
+   static final int HOUSE_RESULT = 29;
+   static final int CARD_COUNT = 30;
+   static final int CARDS = 31;
+
+   private final long round;
+   private final long time;
+   private final String playerId;
+   private final int bet;
+   private final int delta;
+   private final int result;
+   private final int houseResult;
+   private final byte[] cards;
+
+   HandRecord(long round, long time, String playerId, int bet, int delta, int result, int houseResult, byte[] cards) {
+      this.round = round;
+      this.time = time;
+      this.playerId = playerId;
+      this.bet = bet;
+      this.delta = delta;
+      this.result = result;
+      this.houseResult = houseResult;
+      this.cards = cards;
+   }
+
+   public long getRound() {
+      return round;
+   }
+
+   /**
+    * @return when the round was settled, in epoch millis
+    */
+   public long getTime() {
+      return time;
+   }
+
+   public String getPlayerId() {
+      return playerId;
+   }
+
+   public int getBet() {
+      return bet;
+   }
+
+   /**
+    * @return points won (positive) or lost (negative) in this hand
+    */
+   public int getDelta() {
+      return delta;
+   }
+
+   public int getResult() {
+      return result;
+   }
+
+   public int getHouseResult() {
+      return houseResult;
+   }
+
+   /**
+    * @return the cards dealt in order, including any bust card
+    */
+   public List<PokerCard> getCards() {
+      List<PokerCard> list = new ArrayList<>(cards.length);
+      for (byte card : cards) {
+         list.add(PackedCards.toCard(card));
+      }
+      return list;
+   }
+
+   @Override
+   public String toString() {
+      return String.format("Hand: round=%d, player=%s, bet=%d, result=%d, house=%d, delta=%+d, cards=%s",
+            round, playerId, bet, result, houseResult, delta, getCards());
+   }
+}
@@ -0,0 +1,151 @@
+package model.history;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A fixed size file of {@link HandRecord}s mapped into memory. Records are appended in round
+ * order and unused slots are all zero (rounds start at 1), so the number of records in use is
+ * found by binary search when the segment is opened.
+ */
+class Segment implements Closeable {
+   private final Path path;
+   private final FileChannel channel;
+   private final MappedByteBuffer buffer;
+   private final int capacity;
+   private int count;
+
+   Segment(Path path, int capacity) throws IOException {
+      this.path = path;
+      this.capacity = capacity;
+      this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      try {
+         this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * HandRecord.SIZE);
+      } catch (IOException e) {
+         channel.close();
+         throw e;
+      }
+      int low = 0;
+      int high = capacity;
+      while (low < high) {
+         int mid = (low + high) >>> 1;
+         if (round(mid) != 0) {
+            low = mid + 1;
+         }
+         else {
+            high = mid;
+         }
+      }
+      this.count = low;
+   }
+
+   Path getPath() {
+      return path;
+   }
+
+   int size() {
+      return count;
+   }
+
+   boolean isFull() {
+      return count == capacity;
+   }
+
+   void append(long round, long time, int player, int bet, int delta, int result, int houseResult,
+               byte[] cards, int cardCount) {
+      int base = count * HandRecord.SIZE;
+      buffer.putLong(base + HandRecord.TIME, time);
+      buffer.putInt(base + HandRecord.PLAYER, player);
+      buffer.putInt(base + HandRecord.BET, bet);
+      buffer.putInt(base + HandRecord.DELTA, delta);
+      buffer.put(base + HandRecord.RESULT, (byte) result);
+      buffer.put(base + HandRecord.HOUSE_RESULT, (byte) houseResult);
+      buffer.put(base + HandRecord.CARD_COUNT, (byte) cardCount);
+      for (int i = 0; i < cardCount; i++) {
+         buffer.put(base + HandRecord.CARDS + i, cards[i]);
+      }
+      // written last, a record only counts once its round is non-zero
+      buffer.putLong(base + HandRecord.ROUND, round);
+      count++;
+   }
+
+   long round(int slot) {
+      return buffer.getLong(slot * HandRecord.SIZE + HandRecord.ROUND);
+   }
+
+   long time(int slot) {
+      return buffer.getLong(slot * HandRecord.SIZE + HandRecord.TIME);
+   }
+
+   int player(int slot) {
+      return buffer.getInt(slot * HandRecord.SIZE + HandRecord.PLAYER);
+   }
+
+   int delta(int slot) {
+      return buffer.getInt(slot * HandRecord.SIZE + HandRecord.DELTA);
+   }
+
+   HandRecord read(int slot, String playerId) {
+      int base = slot * HandRecord.SIZE;
+      byte[] cards = new byte[Math.min(buffer.get(base + HandRecord.CARD_COUNT), HandRecord.MAX_CARDS)];
+      for (int i = 0; i < cards.length; i++) {
+         cards[i] = buffer.get(base + HandRecord.CARDS + i);
+      }
+      return new HandRecord(round(slot), time(slot), playerId,
+            buffer.getInt(base + HandRecord.BET),
+            delta(slot),
+            buffer.get(base + HandRecord.RESULT) & 0xff,
+            buffer.get(base + HandRecord.HOUSE_RESULT) & 0xff,
+            cards);
+   }
+
+   /**
+    * @return the first slot whose round is {@literal >=} round (size() if none)
+    */
+   int lowerBoundRound(long round) {
+      int low = 0;
+      int high = count;
+      while (low < high) {
+         int mid = (low + high) >>> 1;
+         if (round(mid) < round) {
+            low = mid + 1;
+         }
+         else {
+            high = mid;
+         }
+      }
+      return low;
+   }
+
+   /**
+    * @return the first slot whose time is {@literal >=} time (size() if none)
+    */
+   int lowerBoundTime(long time) {
+      int low = 0;
+      int high = count;
+      while (low < high) {
+         int mid = (low + high) >>> 1;
+         if (time(mid) < time) {
+            low = mid + 1;
+         }
+         else {
+            high = mid;
+         }
+      }
+      return low;
+   }
+
+   void force() {
+      buffer.force();
+   }
+
+   @Override
+   public void close() throws IOException {
+      force();
+      channel.close();
+   }
+}
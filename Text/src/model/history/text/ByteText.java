@@ -0,0 +1,51 @@
+package model.history.text;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable {@link CharSequence} view of part of a byte array (one char per byte, which is exact
+ * for ASCII). {@link #toString()} decodes as UTF-8.
+ */
+final class ByteText implements CharSequence {
+   private byte[] bytes = new byte[0];
+   private int offset;
+   private int length;
+
+   ByteText set(byte[] bytes, int offset, int length) {
+      this.bytes = bytes;
+      this.offset = offset;
+      this.length = length;
+      return this;
+   }
+
+   ByteText clear() {
+      length = 0;
+      return this;
+   }
+
+   @Override
+   public int length() {
+      return length;
+   }
+
+   @Override
+   public char charAt(int index) {
+      if (index < 0 || index >= length) {
+         throw new IndexOutOfBoundsException(String.valueOf(index));
+      }
+      return (char) (bytes[offset + index] & 0xff);
+   }
+
+   @Override
+   public CharSequence subSequence(int start, int end) {
+      if (start < 0 || end > length || start > end) {
+         throw new IndexOutOfBoundsException(start + ".." + end);
+      }
+      return new ByteText().set(bytes, offset + start, end - start);
+   }
+
+   @Override
+   public String toString() {
+      return new String(bytes, offset, length, StandardCharsets.UTF_8);
+   }
+}
@@ -0,0 +1,197 @@
+package model.history.text;
+
+/**
+ * One parsed line of a hand history. This is a flyweight: the parser reuses the same instance for
+ * every event, so values (in particular {@link #getText()}) are only valid during
+ * {@link HandHistoryListener#onEvent(HandEvent)}; copy anything that needs to be kept.
+ * <p>
+ * Amounts are in cents ("$1,800" is 180000, "3.9K" is 390000). Cards are encoded as
+ * {@code rank * 4 + suit}, with rank 2..14 (Ace high) and suit 0..3 for c, d, h, s.
+ */
+public final class HandEvent {
+   public enum Type {
+      /**
+       * a new hand, from a "... Hand #" header or the first HOLE CARDS of a hand
+       */
+      HAND_START,
+      /**
+       * "*** FLOP *** [7d 6d 3d]" etc, the section name is the text and the cards are every card on the line
+       */
+      SECTION,
+      DEALT,
+      ACTION,
+      SHOW,
+      COLLECTED,
+      /**
+       * "Total pot: $3,900 | Rake $0.00", amount is the pot
+       */
+      TOTAL_POT,
+      BOARD,
+      HAND_END,
+      /**
+       * any other line, the line is the text
+       */
+      OTHER
+   }
+
+   public enum Action {
+      POST, FOLD, CHECK, CALL, BET, RAISE, MUCK
+   }
+
+   static final int MAX_CARDS = 16;
+   private static final String RANKS = "23456789TJQKA";
+   private static final String SUITS = "cdhs";
+
+   private final NameTable names;
+   final ByteText text = new ByteText();
+   final int[] cards = new int[MAX_CARDS];
+   Type type;
+   Action action;
+   int player;
+   long amount;
+   long amountTo;
+   long rake;
+   boolean allIn;
+   int cardCount;
+   long hand;
+   long line;
+
+   HandEvent(NameTable names) {
+      this.names = names;
+   }
+
+   void reset(Type type) {
+      this.type = type;
+      this.action = null;
+      this.player = -1;
+      this.amount = 0;
+      this.amountTo = 0;
+      this.rake = 0;
+      this.allIn = false;
+      this.cardCount = 0;
+      this.text.clear();
+   }
+
+   public Type getType() {
+      return type;
+   }
+
+   /**
+    * @return the action for {@link Type#ACTION} events, else null
+    */
+   public Action getAction() {
+      return action;
+   }
+
+   /**
+    * @return number identifying the player within this parse (0 upwards), -1 if the event has no
+    *       player
+    */
+   public int getPlayer() {
+      return player;
+   }
+
+   /**
+    * @return the player's name (interned, so it can be kept), null if the event has no player
+    */
+   public String getPlayerName() {
+      return player < 0 ? null : names.get(player);
+   }
+
+   public long getAmount() {
+      return amount;
+   }
+
+   /**
+    * @return the total a player raised to
+    */
+   public long getAmountTo() {
+      return amountTo;
+   }
+
+   public long getRake() {
+      return rake;
+   }
+
+   public boolean isAllIn() {
+      return allIn;
+   }
+
+   public int getCardCount() {
+      return cardCount;
+   }
+
+   public int getCard(int index) {
+      if (index < 0 || index >= cardCount) {
+         throw new IndexOutOfBoundsException(String.valueOf(index));
+      }
+      return cards[index];
+   }
+
+   /**
+    * @return section name, shown hand description, or whole line for {@link Type#OTHER}, empty otherwise
+    */
+   public CharSequence getText() {
+      return text;
+   }
+
+   /**
+    * @return number of the hand in the input (1 upwards)
+    */
+   public long getHand() {
+      return hand;
+   }
+
+   /**
+    * @return number of the line in the input (1 upwards)
+    */
+   public long getLine() {
+      return line;
+   }
+
+   /**
+    * @param card encoded card
+    *
+    * @return e.g. "Th"
+    */
+   public static String cardToString(int card) {
+      int rank = card >> 2;
+      return rank < 2 || rank > 14 ? "??" : "" + RANKS.charAt(rank - 2) + SUITS.charAt(card & 3);
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder s = new StringBuilder(type.name());
+      if (player >= 0) {
+         s.append(' ').append(getPlayerName());
+      }
+      if (action != null) {
+         s.append(' ').append(action);
+      }
+      if (amount != 0) {
+         s.append(" amount=").append(amount);
+      }
+      if (amountTo != 0) {
+         s.append(" to=").append(amountTo);
+      }
+      if (allIn) {
+         s.append(" all-in");
+      }
+      for (int i = 0; i < cardCount; i++) {
+         s.append(i == 0 ? " [" : " ").append(cardToString(cards[i]));
+      }
+      if (cardCount > 0) {
+         s.append(']');
+      }
+      if (text.length() > 0) {
+         s.append(" \"").append(text).append('"');
+      }
+      return s.toString();
+   }
+
+   static int parseCard(byte rank, byte suit) {
+      int r = RANKS.indexOf(Character.toUpperCase((char) rank));
+      int s = SUITS.indexOf(Character.toLowerCase((char) suit));
+      return r < 0 || s < 0 ? -1 : (r + 2) * 4 + s;
+   }
+}
@@ -0,0 +1,11 @@
+package model.history.text;
+
+/**
+ * Receives the events of a hand history from {@link HandHistoryParser}, in input order
+ */
+public interface HandHistoryListener {
+   /**
+    * @param event the event, only valid during this call (see {@link HandEvent})
+    */
+   void onEvent(HandEvent event);
+}
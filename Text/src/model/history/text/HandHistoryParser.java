@@ -0,0 +1,439 @@
+package model.history.text;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static model.history.text.HandEvent.Type;
+
+/**
+ * Streaming parser for poker style hand history text (see {@code HandHistoryExample.txt}).
+ * <p>
+ * Input is read through a fixed size buffer and copied a line at a time into a reusable buffer,
+ * where each line is matched on its bytes (no String or regex per line). Memory use doesn't depend
+ * on the size of the input and the only allocations are for player names seen for the first time.
+ * Events are passed to the listener as a reused {@link HandEvent}.
+ * <p>
+ * Hands are separated by a "... Hand #" header line or, when there is none, by the next
+ * "*** HOLE CARDS ***". Lines that aren't recognised are passed on as {@link Type#OTHER}.
+ * Not thread-safe, use one parser per thread.
+ */
+public class HandHistoryParser {
+   private static final int BUFFER_SIZE = 1 << 16;
+
+   private static final byte[] SECTION = ascii("*** ");
+   private static final byte[] SECTION_END = ascii(" ***");
+   private static final byte[] HOLE_CARDS = ascii("HOLE CARDS");
+   private static final byte[] DEALT_TO = ascii("Dealt to ");
+   private static final byte[] BOARD = ascii("Board ");
+   private static final byte[] TOTAL_POT = ascii("Total pot");
+   private static final byte[] RAKE = ascii("Rake ");
+   private static final byte[] HAND_HEADER = ascii(" Hand #");
+   private static final byte[] COLON = ascii(": ");
+   private static final byte[] COLLECTED = ascii(" collected ");
+   private static final byte[] CARDS_START = ascii(" [");
+   private static final byte[] FOLDS = ascii("folds");
+   private static final byte[] CHECKS = ascii("checks");
+   private static final byte[] CALLS = ascii("calls ");
+   private static final byte[] BETS = ascii("bets ");
+   private static final byte[] RAISES = ascii("raises ");
+   private static final byte[] TO = ascii(" to ");
+   private static final byte[] POSTS = ascii("posts ");
+   private static final byte[] SHOWS = ascii("shows ");
+   private static final byte[] MUCKS = ascii("mucks");
+   private static final byte[] ALL_IN = ascii("all-in");
+
+   private final HandHistoryListener listener;
+   private final NameTable names = new NameTable();
+   private final HandEvent event = new HandEvent(names);
+   private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+   private byte[] line = new byte[256];
+   private int length;
+   private long lines;
+   private long hands;
+   private long bytes;
+   private boolean inHand;
+   private boolean seenHoleCards;
+
+   public HandHistoryParser(HandHistoryListener listener) {
+      this.listener = listener;
+   }
+
+   /**
+    * @param path file to parse
+    *
+    * @throws IOException if the file can't be read
+    */
+   public void parse(Path path) throws IOException {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+         parse(channel);
+      }
+   }
+
+   /**
+    * Parses everything up to the end of the channel (which is not closed). A parser may be used for
+    * several inputs in turn, player numbers stay the same across them.
+    *
+    * @param channel input
+    *
+    * @throws IOException if the channel can't be read
+    */
+   public void parse(ReadableByteChannel channel) throws IOException {
+      length = 0;
+      inHand = false;
+      seenHoleCards = false;
+      buffer.clear();
+      byte[] data = buffer.array();
+      int read;
+      while ((read = channel.read(buffer)) >= 0) {
+         bytes += read;
+         int end = buffer.position();
+         int start = 0;
+         for (int i = 0; i < end; i++) {
+            if (data[i] == '\n') {
+               append(data, start, i - start);
+               endLine();
+               start = i + 1;
+            }
+         }
+         append(data, start, end - start);
+         buffer.clear();
+      }
+      if (length > 0) {
+         endLine();
+      }
+      endHand();
+   }
+
+   /**
+    * @return number of distinct players seen
+    */
+   public int getPlayerCount() {
+      return names.size();
+   }
+
+   /**
+    * @param player player number from {@link HandEvent#getPlayer()}
+    *
+    * @return the player's name
+    */
+   public String getPlayerName(int player) {
+      return names.get(player);
+   }
+
+   public long getLines() {
+      return lines;
+   }
+
+   public long getHands() {
+      return hands;
+   }
+
+   public long getBytes() {
+      return bytes;
+   }
+
+   private void append(byte[] data, int offset, int count) {
+      if (length + count > line.length) {
+         line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+      }
+      System.arraycopy(data, offset, line, length, count);
+      length += count;
+   }
+
+   private void endLine() {
+      lines++;
+      if (length > 0 && line[length - 1] == '\r') {
+         length--;
+      }
+      if (length > 0) {
+         parseLine();
+      }
+      length = 0;
+   }
+
+   private void parseLine() {
+      if (startsWith(0, SECTION)) {
+         int end = indexOf(SECTION_END, SECTION.length);
+         if (end > 0) {
+            parseSection(SECTION.length, end);
+            return;
+         }
+      }
+      if (startsWith(0, DEALT_TO)) {
+         int end = indexOf(CARDS_START, DEALT_TO.length);
+         if (end > 0) {
+            startEvent(Type.DEALT);
+            event.player = names.intern(line, DEALT_TO.length, end - DEALT_TO.length);
+            parseCards(end);
+            emit();
+            return;
+         }
+      }
+      if (startsWith(0, BOARD)) {
+         startEvent(Type.BOARD);
+         parseCards(BOARD.length);
+         emit();
+         return;
+      }
+      if (startsWith(0, TOTAL_POT)) {
+         startEvent(Type.TOTAL_POT);
+         int at = skipToDigits(TOTAL_POT.length);
+         event.amount = parseAmount(at);
+         int rake = indexOf(RAKE, at);
+         if (rake > 0) {
+            event.rake = parseAmount(skipToDigits(rake + RAKE.length));
+         }
+         emit();
+         return;
+      }
+      if (indexOf(HAND_HEADER, 0) >= 0) {
+         endHand();
+         startHand();
+         event.reset(Type.OTHER);
+         event.text.set(line, 0, length);
+         emit();
+         return;
+      }
+      int colon = indexOf(COLON, 0);
+      if (colon > 0 && parseAction(colon)) {
+         return;
+      }
+      int collected = indexOf(COLLECTED, 0);
+      if (collected > 0) {
+         startEvent(Type.COLLECTED);
+         event.player = names.intern(line, 0, collected);
+         event.amount = parseAmount(skipToDigits(collected + COLLECTED.length));
+         emit();
+         return;
+      }
+      event.reset(Type.OTHER);
+      event.text.set(line, 0, length);
+      emit();
+   }
+
+   private void parseSection(int start, int end) {
+      if (end - start == HOLE_CARDS.length && startsWith(start, HOLE_CARDS)) {
+         // a second HOLE CARDS without a header in between is the next hand
+         if (seenHoleCards) {
+            endHand();
+         }
+         if (!inHand) {
+            startHand();
+         }
+         seenHoleCards = true;
+      }
+      startEvent(Type.SECTION);
+      event.text.set(line, start, end - start);
+      parseCards(end + SECTION_END.length);
+      emit();
+   }
+
+   // "<player>: <action>"
+   private boolean parseAction(int colon) {
+      int at = colon + COLON.length;
+      HandEvent.Action action;
+      if (startsWith(at, FOLDS)) {
+         action = HandEvent.Action.FOLD;
+      }
+      else if (startsWith(at, CHECKS)) {
+         action = HandEvent.Action.CHECK;
+      }
+      else if (startsWith(at, CALLS)) {
+         action = HandEvent.Action.CALL;
+      }
+      else if (startsWith(at, BETS)) {
+         action = HandEvent.Action.BET;
+      }
+      else if (startsWith(at, RAISES)) {
+         action = HandEvent.Action.RAISE;
+      }
+      else if (startsWith(at, POSTS)) {
+         action = HandEvent.Action.POST;
+      }
+      else if (startsWith(at, MUCKS)) {
+         action = HandEvent.Action.MUCK;
+      }
+      else if (startsWith(at, SHOWS)) {
+         startEvent(Type.SHOW);
+         event.player = names.intern(line, 0, colon);
+         int end = parseCards(at + SHOWS.length);
+         int open = indexOf((byte) '(', end);
+         int close = open < 0 ? -1 : indexOf((byte) ')', open);
+         if (close > open) {
+            event.text.set(line, open + 1, close - open - 1);
+         }
+         emit();
+         return true;
+      }
+      else {
+         return false;
+      }
+
+      startEvent(Type.ACTION);
+      event.player = names.intern(line, 0, colon);
+      event.action = action;
+      if (action != HandEvent.Action.FOLD && action != HandEvent.Action.CHECK && action != HandEvent.Action.MUCK) {
+         int amount = skipToDigits(at);
+         event.amount = parseAmount(amount);
+         if (action == HandEvent.Action.RAISE) {
+            int to = indexOf(TO, amount);
+            if (to > 0) {
+               event.amountTo = parseAmount(skipToDigits(to + TO.length));
+            }
+         }
+      }
+      event.allIn = indexOf(ALL_IN, at) > 0;
+      emit();
+      return true;
+   }
+
+   /**
+    * Reads every "[Xx Yy ...]" group from index on into the event
+    *
+    * @return index after the last group
+    */
+   private int parseCards(int index) {
+      int after = index;
+      int i = index;
+      while ((i = indexOf((byte) '[', i)) >= 0) {
+         i++;
+         while (i < length && line[i] != ']') {
+            if (line[i] == ' ') {
+               i++;
+            }
+            else {
+               if (i + 1 < length && event.cardCount < HandEvent.MAX_CARDS) {
+                  int card = HandEvent.parseCard(line[i], line[i + 1]);
+                  if (card >= 0) {
+                     event.cards[event.cardCount++] = card;
+                  }
+               }
+               i += 2;
+            }
+         }
+         after = Math.min(i + 1, length);
+      }
+      return after;
+   }
+
+   /**
+    * Parses "$1,800", "3.9K", "$0.00" etc at index
+    *
+    * @return the amount in cents
+    */
+   private long parseAmount(int index) {
+      long whole = 0;
+      int cents = 0;
+      int fraction = -1;
+      int i = index;
+      for (; i < length; i++) {
+         byte b = line[i];
+         if (b >= '0' && b <= '9') {
+            if (fraction < 0) {
+               whole = whole * 10 + (b - '0');
+            }
+            else if (fraction < 2) {
+               cents = cents * 10 + (b - '0');
+               fraction++;
+            }
+         }
+         else if (b == '.' && fraction < 0) {
+            fraction = 0;
+         }
+         else if (b != ',') {
+            break;
+         }
+      }
+      for (int f = Math.max(fraction, 0); f < 2; f++) {
+         cents *= 10;
+      }
+      long amount = whole * 100 + cents;
+      if (i < length) {
+         if (line[i] == 'K' || line[i] == 'k') {
+            amount *= 1_000;
+         }
+         else if (line[i] == 'M' || line[i] == 'm') {
+            amount *= 1_000_000;
+         }
+      }
+      return amount;
+   }
+
+   private int skipToDigits(int index) {
+      int i = index;
+      while (i < length && (line[i] < '0' || line[i] > '9')) {
+         i++;
+      }
+      return i;
+   }
+
+   private void startEvent(Type type) {
+      if (!inHand) {
+         startHand();
+      }
+      event.reset(type);
+   }
+
+   private void startHand() {
+      hands++;
+      inHand = true;
+      seenHoleCards = false;
+      event.reset(Type.HAND_START);
+      event.hand = hands;
+      emit();
+   }
+
+   private void endHand() {
+      if (inHand) {
+         inHand = false;
+         event.reset(Type.HAND_END);
+         emit();
+      }
+   }
+
+   private void emit() {
+      event.hand = hands;
+      event.line = lines;
+      listener.onEvent(event);
+   }
+
+   private boolean startsWith(int index, byte[] prefix) {
+      if (index + prefix.length > length) {
+         return false;
+      }
+      for (int i = 0; i < prefix.length; i++) {
+         if (line[index + i] != prefix[i]) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   private int indexOf(byte[] pattern, int from) {
+      for (int i = Math.max(from, 0); i + pattern.length <= length; i++) {
+         if (line[i] == pattern[0] && startsWith(i, pattern)) {
+            return i;
+         }
+      }
+      return -1;
+   }
+
+   private int indexOf(byte b, int from) {
+      for (int i = Math.max(from, 0); i < length; i++) {
+         if (line[i] == b) {
+            return i;
+         }
+      }
+      return -1;
+   }
+
+   private static byte[] ascii(String s) {
+      return s.getBytes(StandardCharsets.US_ASCII);
+   }
+}
@@ -0,0 +1,217 @@
+package model.history.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Listener that totals a parsed hand history: per player hands played, hands voluntarily put money
+ * in before the flop (VPIP), folds, showdowns, pots won and amount collected, plus totals of pots
+ * and rake. Per player totals are kept in arrays indexed by {@link HandEvent#getPlayer()}, so
+ * nothing is allocated per event.
+ */
+public class HandHistoryStatistics implements HandHistoryListener {
+   private static final byte[] FLOP = "FLOP".getBytes();
+
+   private long hands;
+   private long pots;
+   private long rake;
+   private boolean preFlop;
+   private String[] names = new String[16];
+   private long[] handsPlayed = new long[16];
+   private long[] voluntary = new long[16];
+   private long[] folds = new long[16];
+   private long[] showdowns = new long[16];
+   private long[] wins = new long[16];
+   private long[] collected = new long[16];
+   // hand in which each player was last counted as playing / voluntary
+   private long[] lastPlayed = new long[16];
+   private long[] lastVoluntary = new long[16];
+   private int players;
+
+   @Override
+   public void onEvent(HandEvent event) {
+      int player = event.getPlayer();
+      if (player >= 0) {
+         ensurePlayer(player, event);
+         if (lastPlayed[player] != event.getHand()) {
+            lastPlayed[player] = event.getHand();
+            handsPlayed[player]++;
+         }
+      }
+      switch (event.getType()) {
+         case HAND_START:
+            hands++;
+            preFlop = true;
+            break;
+         case SECTION:
+            if (isFlop(event.getText())) {
+               preFlop = false;
+            }
+            break;
+         case ACTION:
+            switch (event.getAction()) {
+               case FOLD:
+                  folds[player]++;
+                  break;
+               case CALL:
+               case BET:
+               case RAISE:
+                  if (preFlop && lastVoluntary[player] != event.getHand()) {
+                     lastVoluntary[player] = event.getHand();
+                     voluntary[player]++;
+                  }
+                  break;
+               default:
+                  break;
+            }
+            break;
+         case SHOW:
+            showdowns[player]++;
+            break;
+         case COLLECTED:
+            wins[player]++;
+            collected[player] += event.getAmount();
+            break;
+         case TOTAL_POT:
+            pots += event.getAmount();
+            rake += event.getRake();
+            break;
+         default:
+            break;
+      }
+   }
+
+   public long getHands() {
+      return hands;
+   }
+
+   /**
+    * @return total of all pots, in cents
+    */
+   public long getPots() {
+      return pots;
+   }
+
+   /**
+    * @return total rake, in cents
+    */
+   public long getRake() {
+      return rake;
+   }
+
+   /**
+    * @return totals for every player seen, in order of first appearance
+    */
+   public List<PlayerTotals> getPlayers() {
+      List<PlayerTotals> list = new ArrayList<>(players);
+      for (int i = 0; i < players; i++) {
+         list.add(new PlayerTotals(names[i], handsPlayed[i], voluntary[i], folds[i], showdowns[i], wins[i], collected[i]));
+      }
+      return list;
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder s = new StringBuilder(String.format("Hands: %,d, pots: $%,.2f, rake: $%,.2f%n",
+            hands, pots / 100.0, rake / 100.0));
+      for (PlayerTotals totals : getPlayers()) {
+         s.append(totals).append(System.lineSeparator());
+      }
+      return s.toString();
+   }
+
+   private void ensurePlayer(int player, HandEvent event) {
+      if (player >= names.length) {
+         int size = Math.max(names.length * 2, player + 1);
+         names = Arrays.copyOf(names, size);
+         handsPlayed = Arrays.copyOf(handsPlayed, size);
+         voluntary = Arrays.copyOf(voluntary, size);
+         folds = Arrays.copyOf(folds, size);
+         showdowns = Arrays.copyOf(showdowns, size);
+         wins = Arrays.copyOf(wins, size);
+         collected = Arrays.copyOf(collected, size);
+         lastPlayed = Arrays.copyOf(lastPlayed, size);
+         lastVoluntary = Arrays.copyOf(lastVoluntary, size);
+      }
+      if (names[player] == null) {
+         names[player] = event.getPlayerName();
+         players = Math.max(players, player + 1);
+      }
+   }
+
+   private static boolean isFlop(CharSequence section) {
+      if (section.length() != FLOP.length) {
+         return false;
+      }
+      for (int i = 0; i < FLOP.length; i++) {
+         if (section.charAt(i) != FLOP[i]) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Totals for one player
+    */
+   public static class PlayerTotals {
+      private final String name;
+      private final long hands;
+      private final long voluntary;
+      private final long folds;
+      private final long showdowns;
+      private final long wins;
+      private final long collected;
+
+      PlayerTotals(String name, long hands, long voluntary, long folds, long showdowns, long wins, long collected) {
+         this.name = name;
+         this.hands = hands;
+         this.voluntary = voluntary;
+         this.folds = folds;
+         this.showdowns = showdowns;
+         this.wins = wins;
+         this.collected = collected;
+      }
+
+      public String getName() {
+         return name;
+      }
+
+      public long getHands() {
+         return hands;
+      }
+
+      /**
+       * @return hands in which the player called, bet or raised before the flop
+       */
+      public long getVoluntary() {
+         return voluntary;
+      }
+
+      public long getFolds() {
+         return folds;
+      }
+
+      public long getShowdowns() {
+         return showdowns;
+      }
+
+      public long getWins() {
+         return wins;
+      }
+
+      /**
+       * @return total collected from pots, in cents
+       */
+      public long getCollected() {
+         return collected;
+      }
+
+      @Override
+      public String toString() {
+         return String.format("%-20s hands=%,d, vpip=%.1f%%, folds=%,d, showdowns=%,d, wins=%,d, collected=$%,.2f",
+               name, hands, hands == 0 ? 0 : 100.0 * voluntary / hands, folds, showdowns, wins, collected / 100.0);
+      }
+   }
+}
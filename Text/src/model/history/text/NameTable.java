@@ -0,0 +1,86 @@
+package model.history.text;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Interns player names straight from the line buffer, so a name seen before is looked up without
+ * creating a String. Open addressing on an FNV-1a hash of the bytes.
+ */
+final class NameTable {
+   private final List<byte[]> names = new ArrayList<>();
+   private final List<String> strings = new ArrayList<>();
+   private int[] slots = new int[64];
+
+   NameTable() {
+      Arrays.fill(slots, -1);
+   }
+
+   int size() {
+      return names.size();
+   }
+
+   String get(int id) {
+      return strings.get(id);
+   }
+
+   /**
+    * @return the id of the name, adding it if it is new
+    */
+   int intern(byte[] bytes, int offset, int length) {
+      int hash = hash(bytes, offset, length);
+      int mask = slots.length - 1;
+      for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+         int id = slots[slot];
+         if (id < 0) {
+            id = names.size();
+            names.add(Arrays.copyOfRange(bytes, offset, offset + length));
+            strings.add(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            slots[slot] = id;
+            if (names.size() * 2 > slots.length) {
+               rehash();
+            }
+            return id;
+         }
+         if (equals(names.get(id), bytes, offset, length)) {
+            return id;
+         }
+      }
+   }
+
+   private void rehash() {
+      slots = new int[slots.length * 2];
+      Arrays.fill(slots, -1);
+      int mask = slots.length - 1;
+      for (int id = 0; id < names.size(); id++) {
+         byte[] name = names.get(id);
+         int slot = hash(name, 0, name.length) & mask;
+         while (slots[slot] >= 0) {
+            slot = (slot + 1) & mask;
+         }
+         slots[slot] = id;
+      }
+   }
+
+   private static int hash(byte[] bytes, int offset, int length) {
+      int hash = 0x811c9dc5;
+      for (int i = offset; i < offset + length; i++) {
+         hash = (hash ^ (bytes[i] & 0xff)) * 0x01000193;
+      }
+      return hash ^ (hash >>> 16);
+   }
+
+   private static boolean equals(byte[] name, byte[] bytes, int offset, int length) {
+      if (name.length != length) {
+         return false;
+      }
+      for (int i = 0; i < length; i++) {
+         if (name[i] != bytes[offset + i]) {
+            return false;
+         }
+      }
+      return true;
+   }
+}
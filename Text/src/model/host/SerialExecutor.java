@@ -0,0 +1,118 @@
+package model.host;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs tasks one at a time, in submission order, on a shared pool without dedicating a thread to
+ * the table (the "SerialExecutor" example from the {@link Executor} docs, plus asynchronous steps).
+ * <p>
+ * An asynchronous step (e.g. a paced deal) holds back the following tasks until its future
+ * completes, but releases the pool thread while it waits. After {@link #BATCH_SIZE} tasks the
+ * drainer is resubmitted so one busy table cannot starve the others.
+ */
+class SerialExecutor implements Executor {
+   static final int BATCH_SIZE = 64;
+
+   private final Executor pool;
+   private final TableMetrics metrics;
+   private final Queue<Step> queue = new ConcurrentLinkedQueue<>();
+   // number of queued steps plus the running one; the drainer is scheduled on the 0 -> 1 transition
+   private final AtomicInteger pending = new AtomicInteger();
+   private final Runnable drainer = new Runnable() {
+      @Override
+      public void run() {
+         drain();
+      }
+   };
+   private final BiConsumer<Object, Throwable> resume = new BiConsumer<Object, Throwable>() {
+      @Override
+      public void accept(Object result, Throwable failure) {
+         if (failure != null) {
+            metrics.tasksFailed.increment();
+         }
+         metrics.tasksCompleted.increment();
+         if (pending.decrementAndGet() > 0) {
+            pool.execute(drainer);
+         }
+      }
+   };
+
+   /**
+    * A unit of work; returns a future for asynchronous steps, or null once the work is done
+    */
+   interface Step {
+      CompletableFuture<?> start();
+   }
+
+   SerialExecutor(Executor pool, TableMetrics metrics) {
+      this.pool = pool;
+      this.metrics = metrics;
+   }
+
+   @Override
+   public void execute(Runnable task) {
+      enqueue(new Step() {
+         @Override
+         public CompletableFuture<?> start() {
+            task.run();
+            return null;
+         }
+      });
+   }
+
+   void enqueue(Step step) {
+      queue.add(step);
+      metrics.tasksSubmitted.increment();
+      if (pending.getAndIncrement() == 0) {
+         pool.execute(drainer);
+      }
+   }
+
+   /**
+    * @return number of steps queued or running
+    */
+   int getQueueDepth() {
+      return pending.get();
+   }
+
+   private void drain() {
+      for (int i = 0; i < BATCH_SIZE; i++) {
+         Step step = queue.poll();
+         CompletableFuture<?> running = null;
+         long start = System.nanoTime();
+         try {
+            running = step.start();
+         } catch (RuntimeException e) {
+            metrics.tasksFailed.increment();
+         } catch (Error e) {
+            // finish the step's bookkeeping first, or pending never reaches 0 again and no later
+            // enqueue() would schedule a drainer
+            metrics.tasksFailed.increment();
+            metrics.tasksCompleted.increment();
+            metrics.busyNanos.add(System.nanoTime() - start);
+            if (pending.decrementAndGet() > 0) {
+               pool.execute(drainer);
+            }
+            throw e;
+         }
+         metrics.busyNanos.add(System.nanoTime() - start);
+
+         if (running != null) {
+            // the next step runs when this one completes, possibly on another thread
+            running.whenComplete(resume);
+            return;
+         }
+         metrics.tasksCompleted.increment();
+         if (pending.decrementAndGet() == 0) {
+            return;
+         }
+      }
+      // give other tables a turn
+      pool.execute(drainer);
+   }
+}
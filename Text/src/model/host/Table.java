@@ -0,0 +1,181 @@
+package model.host;
+
+import model.interfaces.AsyncBlackEngine;
+import model.interfaces.Player;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+
+/**
+ * A single table hosted by {@link TableHost}: an engine plus a serial task queue on the host's
+ * shared pool. Everything submitted through the table (including paced deals) runs one at a time
+ * in submission order, so the engine itself needs no locking.
+ */
+public class Table {
+   private final String id;
+   private final AsyncBlackEngine engine;
+   private final TableMetrics metrics = new TableMetrics();
+   private final SerialExecutor executor;
+   private final CompletableFuture<Void> closed = new CompletableFuture<>();
+   private volatile boolean closing = false;
+
+   Table(String id, AsyncBlackEngine engine, Executor pool) {
+      this.id = id;
+      this.engine = engine;
+      this.executor = new SerialExecutor(pool, metrics);
+   }
+
+   public String getId() {
+      return id;
+   }
+
+   public AsyncBlackEngine getEngine() {
+      return engine;
+   }
+
+   public TableMetrics getMetrics() {
+      return metrics;
+   }
+
+   /**
+    * @return the table's serial executor, e.g. to pass to a GUI model that queues its own work
+    */
+   public Executor getExecutor() {
+      return new Executor() {
+         @Override
+         public void execute(Runnable command) {
+            synchronized (Table.this) {
+               checkOpen();
+               executor.execute(command);
+            }
+         }
+      };
+   }
+
+   /**
+    * @return number of tasks queued or running
+    */
+   public int getQueueDepth() {
+      return executor.getQueueDepth();
+   }
+
+   /**
+    * @param task work to run in table order, e.g. adding players and placing bets
+    *
+    * @return future completed when the task has run
+    */
+   public synchronized CompletableFuture<Void> submit(Runnable task) {
+      checkOpen();
+      CompletableFuture<Void> future = new CompletableFuture<>();
+      executor.execute(new Runnable() {
+         @Override
+         public void run() {
+            try {
+               task.run();
+               future.complete(null);
+            } catch (RuntimeException | Error e) {
+               future.completeExceptionally(e);
+               throw e;
+            }
+         }
+      });
+      return future;
+   }
+
+   /**
+    * Queues a paced deal for {@code player}; later tasks wait for the hand to finish without
+    * holding a pool thread
+    *
+    * @param player player to deal to
+    * @param delay  delay between cards in ms
+    *
+    * @return future completed with the player's result
+    */
+   public CompletableFuture<Integer> dealPerson(Player player, int delay) {
+      return enqueueDeal(player, delay);
+   }
+
+   /**
+    * Queues a paced house deal, settling the round once it completes
+    *
+    * @param delay delay between cards in ms
+    *
+    * @return future completed with the house result
+    */
+   public CompletableFuture<Integer> dealHouse(int delay) {
+      return enqueueDeal(null, delay);
+   }
+
+   private synchronized CompletableFuture<Integer> enqueueDeal(Player player, int delay) {
+      checkOpen();
+      CompletableFuture<Integer> result = new CompletableFuture<>();
+      executor.enqueue(new SerialExecutor.Step() {
+         @Override
+         public CompletableFuture<?> start() {
+            CompletableFuture<Integer> deal;
+            try {
+               deal = player == null ? engine.dealHouseAsync(delay) : engine.dealPersonAsync(player, delay);
+            } catch (RuntimeException | Error e) {
+               result.completeExceptionally(e);
+               throw e;
+            }
+            return deal.whenComplete(new BiConsumer<Integer, Throwable>() {
+               @Override
+               public void accept(Integer score, Throwable failure) {
+                  if (failure != null) {
+                     result.completeExceptionally(failure);
+                     return;
+                  }
+                  if (player == null) {
+                     metrics.roundsDealt.increment();
+                  }
+                  else {
+                     metrics.handsDealt.increment();
+                  }
+                  result.complete(score);
+               }
+            });
+         }
+      });
+      return result;
+   }
+
+   /**
+    * Stops accepting tasks; tasks already queued still run
+    *
+    * @return future completed once the queue has drained
+    */
+   public CompletableFuture<Void> close() {
+      synchronized (this) {
+         if (!closing) {
+            closing = true;
+            executor.execute(new Runnable() {
+               @Override
+               public void run() {
+                  closed.complete(null);
+               }
+            });
+         }
+      }
+      return closed;
+   }
+
+   public boolean isClosed() {
+      return closing;
+   }
+
+   // callers hold the lock close() takes until the task is queued, so nothing can land behind its
+   // marker
+   private void checkOpen() {
+      if (closing) {
+         throw new RejectedExecutionException("Table " + id + " is closed");
+      }
+   }
+
+   @Override
+   public String toString() {
+      return "Table{id=" + id + ", queueDepth=" + getQueueDepth() + ", " + metrics + "}";
+   }
+}
@@ -0,0 +1,184 @@
+package model.host;
+
+import model.BlackEngineImpl;
+import model.interfaces.AsyncBlackEngine;
+import util.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Hosts any number of independent tables on one bounded, work-stealing {@link ForkJoinPool} plus a
+ * small scheduler for pacing cards, instead of a thread (or single thread executor) per table.
+ * <p>
+ * Each table's tasks run serially in submission order (see {@link Table}); different tables run in
+ * parallel. Tables opened by id get their own {@link BlackEngineImpl}, so no deck or seed is
+ * shared between them.
+ */
+public class TableHost implements AutoCloseable {
+   private final ForkJoinPool pool;
+   private final ScheduledExecutorService scheduler;
+   private final ConcurrentMap<String, Table> tables = new ConcurrentHashMap<>();
+
+   public TableHost() {
+      this(Runtime.getRuntime().availableProcessors(), 2);
+   }
+
+   /**
+    * @param parallelism      number of pool threads running table tasks
+    * @param schedulerThreads number of threads pacing card reveals
+    */
+   public TableHost(int parallelism, int schedulerThreads) {
+      // asyncMode: FIFO scheduling of tasks that are never joined
+      this.pool = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+      this.scheduler = new ScheduledThreadPoolExecutor(schedulerThreads, new ThreadFactory() {
+         private final AtomicInteger count = new AtomicInteger();
+
+         @Override
+         public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "TableHost-scheduler-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+         }
+      });
+   }
+
+   /**
+    * Opens a table with a new engine whose deck draws from {@link RandomSource#threadLocal()}
+    *
+    * @param id unique table id
+    *
+    * @return the new table
+    *
+    * @throws IllegalArgumentException if a table with that id is already open
+    */
+   public Table openTable(String id) {
+      return openTable(id, RandomSource.threadLocal());
+   }
+
+   /**
+    * @param id           unique table id
+    * @param randomSource random source for the table's deck (not shared with other tables unless thread-safe)
+    *
+    * @return the new table
+    *
+    * @throws IllegalArgumentException if a table with that id is already open
+    */
+   public Table openTable(String id, RandomSource randomSource) {
+      return openTable(id, new BlackEngineImpl(randomSource, scheduler));
+   }
+
+   /**
+    * @param id     unique table id
+    * @param engine engine to host, ideally created with {@link #getScheduler()}
+    *
+    * @return the new table
+    *
+    * @throws IllegalArgumentException if a table with that id is already open
+    */
+   public Table openTable(String id, AsyncBlackEngine engine) {
+      Table table = new Table(id, engine, pool);
+      if (tables.putIfAbsent(id, table) != null) {
+         throw new IllegalArgumentException("Table " + id + " is already open");
+      }
+      return table;
+   }
+
+   /**
+    * @param id table id
+    *
+    * @return the table or null if no such table is open
+    */
+   public Table getTable(String id) {
+      return tables.get(id);
+   }
+
+   /**
+    * @return a live, unmodifiable view of the open tables
+    */
+   public Collection<Table> getTables() {
+      return Collections.unmodifiableCollection(tables.values());
+   }
+
+   /**
+    * Closes a table, removing it from the host once its queued tasks have run
+    *
+    * @param id table id
+    *
+    * @return future completed when the table has drained, or null if no such table is open
+    */
+   public CompletableFuture<Void> closeTable(String id) {
+      Table table = tables.get(id);
+      if (table == null) {
+         return null;
+      }
+      return table.close().whenComplete(new BiConsumer<Void, Throwable>() {
+         @Override
+         public void accept(Void ignored, Throwable failure) {
+            tables.remove(id, table);
+         }
+      });
+   }
+
+   /**
+    * @return the scheduler used to pace cards, for engines passed to {@link #openTable(String, AsyncBlackEngine)}
+    */
+   public ScheduledExecutorService getScheduler() {
+      return scheduler;
+   }
+
+   /**
+    * Closes every table, waits up to {@code timeout} for them to drain, then stops the threads
+    *
+    * @param timeout maximum time to wait
+    * @param unit    unit of timeout
+    *
+    * @return true if every table drained in time
+    */
+   public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+      List<CompletableFuture<Void>> closing = new ArrayList<>();
+      for (String id : tables.keySet()) {
+         CompletableFuture<Void> future = closeTable(id);
+         if (future != null) {
+            closing.add(future);
+         }
+      }
+      boolean drained = true;
+      try {
+         CompletableFuture.allOf(closing.toArray(new CompletableFuture<?>[0])).get(timeout, unit);
+      } catch (ExecutionException | TimeoutException e) {
+         drained = false;
+      } finally {
+         scheduler.shutdownNow();
+         pool.shutdownNow();
+      }
+      return drained;
+   }
+
+   /**
+    * {@link #shutdown(long, TimeUnit)} with a one minute timeout; if interrupted, stops the threads
+    * straight away and returns with the interrupt flag set
+    */
+   @Override
+   public void close() {
+      try {
+         shutdown(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+}
@@ -0,0 +1,70 @@
+package model.host;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-table counters maintained by {@link Table}. All values are cumulative since the table opened.
+ */
+public class TableMetrics {
+   private final long openedNanos = System.nanoTime();
+   final LongAdder tasksSubmitted = new LongAdder();
+   final LongAdder tasksCompleted = new LongAdder();
+   final LongAdder tasksFailed = new LongAdder();
+   final LongAdder handsDealt = new LongAdder();
+   final LongAdder roundsDealt = new LongAdder();
+   final LongAdder busyNanos = new LongAdder();
+
+   public long getTasksSubmitted() {
+      return tasksSubmitted.sum();
+   }
+
+   public long getTasksCompleted() {
+      return tasksCompleted.sum();
+   }
+
+   public long getTasksFailed() {
+      return tasksFailed.sum();
+   }
+
+   /**
+    * @return player hands dealt through {@link Table#dealPerson(model.interfaces.Player, int)}
+    */
+   public long getHandsDealt() {
+      return handsDealt.sum();
+   }
+
+   /**
+    * @return house hands dealt (i.e. rounds settled) through {@link Table#dealHouse(int)}
+    */
+   public long getRoundsDealt() {
+      return roundsDealt.sum();
+   }
+
+   /**
+    * @return time spent running this table's tasks on pool threads (excluding paced delays between cards)
+    */
+   public long getBusyNanos() {
+      return busyNanos.sum();
+   }
+
+   /**
+    * @return completed tasks per second since the table was opened
+    */
+   public double getTasksPerSecond() {
+      return getTasksCompleted() * 1e9 / Math.max(1, System.nanoTime() - openedNanos);
+   }
+
+   /**
+    * @return settled rounds per second since the table was opened
+    */
+   public double getRoundsPerSecond() {
+      return getRoundsDealt() * 1e9 / Math.max(1, System.nanoTime() - openedNanos);
+   }
+
+   @Override
+   public String toString() {
+      return String.format("TableMetrics{tasks=%d/%d (failed %d), hands=%d, rounds=%d, busy=%.3f ms, %.1f tasks/s}",
+            getTasksCompleted(), getTasksSubmitted(), getTasksFailed(), getHandsDealt(), getRoundsDealt(),
+            getBusyNanos() / 1e6, getTasksPerSecond());
+   }
+}
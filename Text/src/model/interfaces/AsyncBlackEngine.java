@@ -0,0 +1,36 @@
+package model.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking extension of {@link BlackEngine}: instead of sleeping between cards, each card is
+ * revealed by a task scheduled {@code delay} milliseconds after the previous one, so the calling
+ * thread returns immediately and a handful of scheduler threads can pace any number of hands.
+ * <p>
+ * Callbacks are invoked in the same order as the blocking methods, but on a scheduler thread.
+ */
+public interface AsyncBlackEngine extends BlackEngine {
+   /**
+    * Asynchronous version of {@link BlackEngine#dealPerson(Player, int)}
+    *
+    * @param player the current player who will have their result set at the end of the hand
+    * @param delay  the delay between cards being dealt (in milliseconds (ms))
+    *
+    * @return a future completed with the player's final result, after the result callbacks have been
+    *       called and the result set on the player
+    *
+    * @throws IllegalArgumentException thrown when delay param is {@literal <} 0
+    */
+   CompletableFuture<Integer> dealPersonAsync(Player player, int delay) throws IllegalArgumentException;
+
+   /**
+    * Asynchronous version of {@link BlackEngine#dealHouse(int)}
+    *
+    * @param delay the delay between cards being dealt (in milliseconds (ms))
+    *
+    * @return a future completed with the house result, after all bets have been settled and reset
+    *
+    * @throws IllegalArgumentException thrown when delay param is {@literal <} 0
+    */
+   CompletableFuture<Integer> dealHouseAsync(int delay) throws IllegalArgumentException;
+}
@@ -0,0 +1,13 @@
+package model.journal;
+
+/**
+ * Unchecked wrapper for an I/O error writing the journal from a method that can't throw
+ * {@link java.io.IOException} (e.g. a {@link view.interfaces.BlackEngineCallback})
+ */
+public class JournalException extends RuntimeException {
+   private static final long serialVersionUID = 1L;
+
+   public JournalException(String message, Throwable cause) {
+      super(message, cause);
+   }
+}
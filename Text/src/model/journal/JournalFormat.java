@@ -0,0 +1,44 @@
+package model.journal;
+
+/**
+ * On-disk layout of a round journal.
+ * <pre>
+ * file    := MAGIC:int VERSION:int batch*
+ * batch   := length:int crc32:int record{length bytes}
+ * record  := type:byte fields
+ *
+ * PERSON_ADDED    id name points:int
+ * PERSON_REMOVED  id
+ * BET             id bet:int
+ * CARD            id card:byte
+ * RESULT          id result:byte
+ * BALANCE         id points:int
+ * HOUSE_CARD      card:byte
+ * HOUSE_RESULT    result:byte
+ *
+ * id, name := length:unsigned short, UTF-8 bytes
+ * card     := {@link model.PackedCards} card index
+ * </pre>
+ * A batch is only trusted if it is complete and its checksum matches, so a crash part way through
+ * a write loses at most the unflushed tail.
+ */
+final class JournalFormat {
+   static final int MAGIC = 0x424a524e; // "BJRN"
+   static final int VERSION = 1;
+   static final int FILE_HEADER_SIZE = 8;
+   static final int BATCH_HEADER_SIZE = 8;
+
+   static final byte PERSON_ADDED = 1;
+   static final byte PERSON_REMOVED = 2;
+   static final byte BET = 3;
+   static final byte CARD = 4;
+   static final byte RESULT = 5;
+   static final byte BALANCE = 6;
+   static final byte HOUSE_CARD = 7;
+   static final byte HOUSE_RESULT = 8;
+
+   static final int MAX_STRING_BYTES = 0xffff;
+
+   private JournalFormat() {
+   }
+}
@@ -0,0 +1,31 @@
+package model.journal;
+
+/**
+ * Receives the events of a round journal as it is read back by {@link JournalReader}, in the
+ * order they were written.
+ */
+public interface JournalListener {
+   void personAdded(String id, String name, int points);
+
+   void personRemoved(String id);
+
+   void betPlaced(String id, int bet);
+
+   /**
+    * @param id   player id
+    * @param card card index, see {@link model.PackedCards#toCard(int)}
+    */
+   void cardDealt(String id, int card);
+
+   void result(String id, int result);
+
+   /**
+    * @param id     player id
+    * @param points the player's points after {@link model.interfaces.BlackEngine#applyWinLoss}
+    */
+   void balance(String id, int points);
+
+   void houseCardDealt(int card);
+
+   void houseResult(int result);
+}
@@ -0,0 +1,180 @@
+package model.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static model.journal.JournalFormat.*;
+
+/**
+ * Reads a round journal back, one batch at a time. Reading stops (without an error) at the first
+ * incomplete or corrupt batch, which is what a crash part way through a write leaves behind.
+ */
+public final class JournalReader {
+   private JournalReader() {
+   }
+
+   /**
+    * Reads a journal without decoding events for a listener
+    *
+    * @param path journal file
+    *
+    * @return what was found
+    *
+    * @throws IOException if the file can't be read or isn't a journal
+    */
+   public static JournalScan scan(Path path) throws IOException {
+      return read(path, null);
+   }
+
+   /**
+    * @param path     journal file
+    * @param listener receives every event of every intact batch, in order (may be null)
+    *
+    * @return what was found
+    *
+    * @throws IOException if the file can't be read or isn't a journal
+    */
+   public static JournalScan read(Path path, JournalListener listener) throws IOException {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+         long fileLength = channel.size();
+         ByteBuffer header = ByteBuffer.allocate(Math.max(FILE_HEADER_SIZE, BATCH_HEADER_SIZE));
+         if (!readFully(channel, header, FILE_HEADER_SIZE)
+               || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a round journal: " + path);
+         }
+
+         ByteBuffer batch = ByteBuffer.allocate(RoundJournal.DEFAULT_BATCH_SIZE);
+         CRC32 crc = new CRC32();
+         long validLength = FILE_HEADER_SIZE;
+         long batches = 0;
+         long events = 0;
+         long rounds = 0;
+         while (readFully(channel, header, BATCH_HEADER_SIZE)) {
+            int length = header.getInt(0);
+            if (length <= 0 || length > fileLength - validLength - BATCH_HEADER_SIZE) {
+               break;
+            }
+            if (batch.capacity() < length) {
+               batch = ByteBuffer.allocate(length);
+            }
+            if (!readFully(channel, batch, length)) {
+               break;
+            }
+            crc.reset();
+            crc.update(batch.array(), 0, length);
+            if ((int) crc.getValue() != header.getInt(4)) {
+               break;
+            }
+            long[] counts = decode(batch, listener);
+            events += counts[0];
+            rounds += counts[1];
+            batches++;
+            validLength += BATCH_HEADER_SIZE + length;
+         }
+         return new JournalScan(fileLength, validLength, batches, events, rounds);
+      }
+   }
+
+   // returns {events, rounds}
+   private static long[] decode(ByteBuffer batch, JournalListener listener) throws IOException {
+      long events = 0;
+      long rounds = 0;
+      while (batch.hasRemaining()) {
+         byte type = batch.get();
+         events++;
+         switch (type) {
+            case PERSON_ADDED: {
+               String id = getString(batch);
+               String name = getString(batch);
+               int points = batch.getInt();
+               if (listener != null) {
+                  listener.personAdded(id, name, points);
+               }
+               break;
+            }
+            case PERSON_REMOVED: {
+               String id = getString(batch);
+               if (listener != null) {
+                  listener.personRemoved(id);
+               }
+               break;
+            }
+            case BET: {
+               String id = getString(batch);
+               int bet = batch.getInt();
+               if (listener != null) {
+                  listener.betPlaced(id, bet);
+               }
+               break;
+            }
+            case CARD: {
+               String id = getString(batch);
+               int card = batch.get();
+               if (listener != null) {
+                  listener.cardDealt(id, card);
+               }
+               break;
+            }
+            case RESULT: {
+               String id = getString(batch);
+               int result = batch.get() & 0xff;
+               if (listener != null) {
+                  listener.result(id, result);
+               }
+               break;
+            }
+            case BALANCE: {
+               String id = getString(batch);
+               int points = batch.getInt();
+               if (listener != null) {
+                  listener.balance(id, points);
+               }
+               break;
+            }
+            case HOUSE_CARD: {
+               int card = batch.get();
+               if (listener != null) {
+                  listener.houseCardDealt(card);
+               }
+               break;
+            }
+            case HOUSE_RESULT: {
+               int result = batch.get() & 0xff;
+               rounds++;
+               if (listener != null) {
+                  listener.houseResult(result);
+               }
+               break;
+            }
+            default:
+               // the checksum matched, so this was written by a newer version
+               throw new IOException("Unknown journal event type " + type);
+         }
+      }
+      return new long[]{events, rounds};
+   }
+
+   private static String getString(ByteBuffer batch) {
+      int length = batch.getShort() & 0xffff;
+      String s = new String(batch.array(), batch.arrayOffset() + batch.position(), length, StandardCharsets.UTF_8);
+      batch.position(batch.position() + length);
+      return s;
+   }
+
+   // reads exactly `length` bytes into the start of `buffer` and flips it, false at end of file
+   private static boolean readFully(FileChannel channel, ByteBuffer buffer, int length) throws IOException {
+      buffer.clear().limit(length);
+      while (buffer.hasRemaining()) {
+         if (channel.read(buffer) < 0) {
+            return false;
+         }
+      }
+      buffer.flip();
+      return true;
+   }
+}
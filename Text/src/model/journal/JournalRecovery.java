@@ -0,0 +1,95 @@
+package model.journal;
+
+import model.SimplePerson;
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rebuilds players and their points by replaying a round journal into an engine, e.g. at startup
+ * before wrapping the engine in a {@link JournalingBlackEngine} again.
+ * <p>
+ * Balances are taken from the last settled round of each player: a round's
+ * {@link JournalListener#balance} records are held back until its
+ * {@link JournalListener#houseResult}, since the journal may have been flushed part way through
+ * them. Bets and balances of a round that was still being dealt or settled when the journal ends
+ * are not restored (points only change when a round is settled, so that round never happened).
+ */
+public class JournalRecovery implements JournalListener {
+   private final BlackEngine engine;
+   // balances of the round being read, applied once its house result is read
+   private final Map<String, Integer> unsettled = new LinkedHashMap<>();
+
+   private JournalRecovery(BlackEngine engine) {
+      this.engine = engine;
+   }
+
+   /**
+    * @param path   journal file, nothing is done if it doesn't exist
+    * @param engine engine to add the recovered players to (replacing players with the same ids)
+    *
+    * @return what was replayed, or null if there was no journal
+    *
+    * @throws IOException if the journal can't be read
+    */
+   public static JournalScan recover(Path path, BlackEngine engine) throws IOException {
+      if (!Files.exists(path)) {
+         return null;
+      }
+      return JournalReader.read(path, new JournalRecovery(engine));
+   }
+
+   @Override
+   public void personAdded(String id, String name, int points) {
+      engine.addPerson(new SimplePerson(id, name, points));
+   }
+
+   @Override
+   public void personRemoved(String id) {
+      Player player = engine.getPerson(id);
+      if (player != null) {
+         engine.removePerson(player);
+      }
+   }
+
+   @Override
+   public void betPlaced(String id, int bet) {
+   }
+
+   @Override
+   public void cardDealt(String id, int card) {
+   }
+
+   @Override
+   public void result(String id, int result) {
+      Player player = engine.getPerson(id);
+      if (player != null) {
+         player.setResult(result);
+      }
+   }
+
+   @Override
+   public void balance(String id, int points) {
+      unsettled.put(id, points);
+   }
+
+   @Override
+   public void houseCardDealt(int card) {
+   }
+
+   @Override
+   public void houseResult(int result) {
+      for (Map.Entry<String, Integer> balance : unsettled.entrySet()) {
+         Player player = engine.getPerson(balance.getKey());
+         if (player != null) {
+            player.setPoints(balance.getValue());
+         }
+      }
+      unsettled.clear();
+   }
+}
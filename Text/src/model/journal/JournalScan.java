@@ -0,0 +1,59 @@
+package model.journal;
+
+/**
+ * Summary of a pass over a journal file by {@link JournalReader}
+ */
+public class JournalScan {
+   private final long fileLength;
+   private final long validLength;
+   private final long batches;
+   private final long events;
+   private final long rounds;
+
+   JournalScan(long fileLength, long validLength, long batches, long events, long rounds) {
+      this.fileLength = fileLength;
+      this.validLength = validLength;
+      this.batches = batches;
+      this.events = events;
+      this.rounds = rounds;
+   }
+
+   public long getFileLength() {
+      return fileLength;
+   }
+
+   /**
+    * @return length of the file up to the end of the last complete, intact batch
+    */
+   public long getValidLength() {
+      return validLength;
+   }
+
+   /**
+    * @return true if the file ends in a torn or corrupt batch (which was ignored)
+    */
+   public boolean isTruncated() {
+      return validLength < fileLength;
+   }
+
+   public long getBatches() {
+      return batches;
+   }
+
+   public long getEvents() {
+      return events;
+   }
+
+   /**
+    * @return number of house results, i.e. completed rounds
+    */
+   public long getRounds() {
+      return rounds;
+   }
+
+   @Override
+   public String toString() {
+      return String.format("JournalScan: batches=%d, events=%d, rounds=%d, bytes=%d/%d%s",
+            batches, events, rounds, validLength, fileLength, isTruncated() ? " (truncated)" : "");
+   }
+}
@@ -0,0 +1,129 @@
+package model.journal;
+
+import model.DelegatingBlackEngine;
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import view.interfaces.BlackEngineCallback;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Decorator that records every change to a game in a {@link RoundJournal}: players added and
+ * removed, bets, every card dealt, results and each player's points after
+ * {@link BlackEngine#applyWinLoss(Player, int)}. Events are batched in memory and written at the
+ * end of a round at most once per {@link RoundJournal flush interval}, so the cost while dealing is
+ * just encoding a few bytes per card.
+ * <p>
+ * Player balances can be rebuilt from the journal with {@link JournalRecovery}.
+ */
+public class JournalingBlackEngine extends DelegatingBlackEngine implements Closeable {
+   private final RoundJournal journal;
+   private final BlackEngineCallback recorder;
+
+   /**
+    * @param engine  engine to journal, events are recorded by a callback added to this engine (so
+    *                rounds dealt directly on it are journaled too)
+    * @param journal journal to append to
+    */
+   public JournalingBlackEngine(BlackEngine engine, RoundJournal journal) {
+      super(engine);
+      this.journal = journal;
+      this.recorder = new Recorder(journal);
+      engine.addBlackEngineCallback(recorder);
+   }
+
+   public RoundJournal getJournal() {
+      return journal;
+   }
+
+   @Override
+   public void addPerson(Player player) {
+      super.addPerson(player);
+      journal.personAdded(player);
+   }
+
+   @Override
+   public boolean removePerson(Player player) {
+      boolean removed = super.removePerson(player);
+      if (removed) {
+         journal.personRemoved(player);
+      }
+      return removed;
+   }
+
+   @Override
+   public boolean placeBet(Player player, int bet) {
+      boolean placed = super.placeBet(player, bet);
+      if (placed) {
+         journal.betPlaced(player, bet);
+      }
+      return placed;
+   }
+
+   @Override
+   public void applyWinLoss(Player player, int houseResult) {
+      super.applyWinLoss(player, houseResult);
+      journal.balance(player);
+   }
+
+   /**
+    * Stops journaling and closes the journal (flushing any events not yet written)
+    */
+   @Override
+   public void close() throws IOException {
+      getDelegate().removeBlackEngineCallback(recorder);
+      journal.close();
+   }
+
+   /**
+    * Records the dealing (and, at the end of the round, everyone's balance) as the engine calls back
+    */
+   private static class Recorder implements BlackEngineCallback {
+      private final RoundJournal journal;
+
+      Recorder(RoundJournal journal) {
+         this.journal = journal;
+      }
+
+      @Override
+      public void nextCard(Player player, PokerCard card, BlackEngine engine) {
+         journal.cardDealt(player, card);
+      }
+
+      @Override
+      public void bustCard(Player player, PokerCard card, BlackEngine engine) {
+         journal.cardDealt(player, card);
+      }
+
+      @Override
+      public void result(Player player, int result, BlackEngine engine) {
+         journal.result(player, result);
+      }
+
+      @Override
+      public void nextHouseCard(PokerCard card, BlackEngine engine) {
+         journal.houseCardDealt(card);
+      }
+
+      @Override
+      public void houseBustCard(PokerCard card, BlackEngine engine) {
+         journal.houseCardDealt(card);
+      }
+
+      @Override
+      public void houseResult(int result, BlackEngine engine) {
+         // applyWinLoss has been applied to every player by now (and bets not yet reset)
+         for (Player player : engine.getAllPersons()) {
+            journal.balance(player);
+         }
+         journal.houseResult(result);
+         try {
+            journal.endRound();
+         } catch (IOException e) {
+            throw new JournalException("Could not write to " + journal.getPath(), e);
+         }
+      }
+   }
+}
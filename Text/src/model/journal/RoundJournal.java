@@ -0,0 +1,303 @@
+package model.journal;
+
+import model.PackedCards;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static model.journal.JournalFormat.*;
+
+/**
+ * Append-only binary journal of game events (see {@link JournalFormat}).
+ * <p>
+ * Events are encoded into an in-memory batch and only written when the batch fills up, when
+ * {@link #endRound()} finds the flush interval has passed, or when {@link #flush()} is called, so
+ * recording an event costs a few bytes copied and no I/O, and a busy table writes many rounds
+ * per batch. Thread-safe.
+ */
+public class RoundJournal implements Closeable {
+   static final int DEFAULT_BATCH_SIZE = 1 << 17;
+   public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+
+   private final Path path;
+   private final FileChannel channel;
+   private final boolean sync;
+   private final long flushIntervalNanos;
+   private final ByteBuffer batch;
+   private final CRC32 crc = new CRC32();
+   private final JournalScan recovered;
+   private long batches = 0;
+   private long lastFlush = System.nanoTime();
+   private boolean closed = false;
+
+   /**
+    * Opens (or creates) a journal for appending. Any torn batch left at the end of the file by a
+    * crash is truncated away first.
+    *
+    * @param path journal file
+    * @param sync true to {@link FileChannel#force(boolean) force} every batch to the device
+    *             (durable across power loss), false to leave it to the OS (durable across process
+    *             crashes)
+    * @param flushIntervalMillis the most time {@link #endRound()} lets a round go unwritten, 0 to
+    *                            write at the end of every round
+    *
+    * @throws IOException if the file can't be opened or isn't a journal
+    */
+   public RoundJournal(Path path, boolean sync, long flushIntervalMillis) throws IOException {
+      if (flushIntervalMillis < 0) {
+         throw new IllegalArgumentException("flushIntervalMillis must be >= 0");
+      }
+      this.path = path;
+      this.sync = sync;
+      this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+      this.batch = ByteBuffer.allocateDirect(DEFAULT_BATCH_SIZE);
+      this.recovered = Files.exists(path) && Files.size(path) > 0
+            ? JournalReader.scan(path)
+            : null;
+      this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      try {
+         if (recovered == null) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            writeFully(header);
+         }
+         else {
+            channel.truncate(recovered.getValidLength());
+            channel.position(recovered.getValidLength());
+         }
+      } catch (IOException e) {
+         channel.close();
+         throw e;
+      }
+      batch.position(BATCH_HEADER_SIZE);
+   }
+
+   public RoundJournal(Path path) throws IOException {
+      this(path, false, DEFAULT_FLUSH_INTERVAL_MILLIS);
+   }
+
+   public Path getPath() {
+      return path;
+   }
+
+   /**
+    * @return what was found in the file when it was opened, or null if it was new
+    */
+   public JournalScan getRecovered() {
+      return recovered;
+   }
+
+   /**
+    * @return number of batches written since the journal was opened
+    */
+   public synchronized long getBatches() {
+      return batches;
+   }
+
+   public synchronized void personAdded(Player player) {
+      byte[] name = player.getPersonName() == null
+            ? new byte[0]
+            : player.getPersonName().getBytes(StandardCharsets.UTF_8);
+      String id = player.getPersonId();
+      checkId(id);
+      checkLength(name.length, "Name");
+      reserve(1 + 2 + id.length() * 3 + 2 + name.length + 4);
+      batch.put(PERSON_ADDED);
+      putString(id);
+      putBytes(name);
+      batch.putInt(player.getPoints());
+   }
+
+   public synchronized void personRemoved(Player player) {
+      String id = player.getPersonId();
+      checkId(id);
+      reserve(1 + 2 + id.length() * 3);
+      batch.put(PERSON_REMOVED);
+      putString(id);
+   }
+
+   public synchronized void betPlaced(Player player, int bet) {
+      putIdInt(BET, player, bet);
+   }
+
+   public synchronized void cardDealt(Player player, PokerCard card) {
+      String id = player.getPersonId();
+      checkId(id);
+      reserve(1 + 2 + id.length() * 3 + 1);
+      batch.put(CARD);
+      putString(id);
+      batch.put(PackedCards.indexOf(card));
+   }
+
+   public synchronized void result(Player player, int result) {
+      String id = player.getPersonId();
+      checkId(id);
+      reserve(1 + 2 + id.length() * 3 + 1);
+      batch.put(RESULT);
+      putString(id);
+      batch.put((byte) result);
+   }
+
+   public synchronized void balance(Player player) {
+      putIdInt(BALANCE, player, player.getPoints());
+   }
+
+   public synchronized void houseCardDealt(PokerCard card) {
+      reserve(2);
+      batch.put(HOUSE_CARD).put(PackedCards.indexOf(card));
+   }
+
+   public synchronized void houseResult(int result) {
+      reserve(2);
+      batch.put(HOUSE_RESULT).put((byte) result);
+   }
+
+   /**
+    * Marks the end of a round, writing the batch if it is older than the flush interval
+    *
+    * @throws IOException if the write fails
+    */
+   public synchronized void endRound() throws IOException {
+      if (System.nanoTime() - lastFlush >= flushIntervalNanos) {
+         flush();
+      }
+   }
+
+   /**
+    * Writes the current batch, if it has any events
+    *
+    * @throws IOException if the write fails; the batch is kept and retried by the next flush
+    */
+   public synchronized void flush() throws IOException {
+      ensureOpen();
+      int length = batch.position() - BATCH_HEADER_SIZE;
+      lastFlush = System.nanoTime();
+      if (length == 0) {
+         return;
+      }
+      batch.flip();
+      batch.position(BATCH_HEADER_SIZE);
+      crc.reset();
+      crc.update(batch);
+      batch.putInt(0, length).putInt(4, (int) crc.getValue());
+      batch.position(0);
+      long start = channel.position();
+      try {
+         writeFully(batch);
+         if (sync) {
+            channel.force(false);
+         }
+      } catch (IOException e) {
+         // drop the partial write and keep the batch for the next attempt
+         channel.truncate(start);
+         channel.position(start);
+         batch.limit(batch.capacity()).position(BATCH_HEADER_SIZE + length);
+         throw e;
+      }
+      batch.clear().position(BATCH_HEADER_SIZE);
+      batches++;
+   }
+
+   @Override
+   public synchronized void close() throws IOException {
+      if (closed) {
+         return;
+      }
+      try {
+         flush();
+      } finally {
+         closed = true;
+         channel.close();
+      }
+   }
+
+   private void putIdInt(byte type, Player player, int value) {
+      String id = player.getPersonId();
+      checkId(id);
+      reserve(1 + 2 + id.length() * 3 + 4);
+      batch.put(type);
+      putString(id);
+      batch.putInt(value);
+   }
+
+   // fields are checked before anything is put, so a bad one can't leave half a record in the batch
+   private static void checkId(String id) {
+      int bytes = id.length();
+      for (int i = 0; i < id.length() && bytes <= MAX_STRING_BYTES; i++) {
+         char c = id.charAt(i);
+         if (Character.isSurrogate(c)) {
+            bytes += 1;
+         }
+         else if (c >= 0x800) {
+            bytes += 2;
+         }
+         else if (c >= 0x80) {
+            bytes += 1;
+         }
+      }
+      checkLength(bytes, "Id");
+   }
+
+   private static void checkLength(int bytes, String field) {
+      if (bytes > MAX_STRING_BYTES) {
+         throw new IllegalArgumentException(field + " too long: " + bytes + " bytes");
+      }
+   }
+
+   // ids are nearly always short ASCII, so encode those in place instead of via getBytes()
+   private void putString(String s) {
+      int length = s.length();
+      for (int i = 0; i < length; i++) {
+         if (s.charAt(i) >= 0x80) {
+            putBytes(s.getBytes(StandardCharsets.UTF_8));
+            return;
+         }
+      }
+      batch.putShort((short) length);
+      for (int i = 0; i < length; i++) {
+         batch.put((byte) s.charAt(i));
+      }
+   }
+
+   private void putBytes(byte[] bytes) {
+      batch.putShort((short) bytes.length);
+      batch.put(bytes);
+   }
+
+   // makes room for a record of up to `size` bytes, writing the current batch if need be
+   private void reserve(int size) {
+      ensureOpen();
+      if (BATCH_HEADER_SIZE + size > batch.capacity()) {
+         throw new IllegalArgumentException("Record too large: " + size + " bytes");
+      }
+      if (batch.remaining() < size) {
+         try {
+            flush();
+         } catch (IOException e) {
+            throw new JournalException("Could not write to " + path, e);
+         }
+      }
+   }
+
+   private void writeFully(ByteBuffer buffer) throws IOException {
+      while (buffer.hasRemaining()) {
+         channel.write(buffer);
+      }
+   }
+
+   private void ensureOpen() {
+      if (closed) {
+         throw new IllegalStateException("Journal is closed: " + path);
+      }
+   }
+}
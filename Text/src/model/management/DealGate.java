@@ -0,0 +1,105 @@
+package model.management;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lets operations pause dealing on a table, or drain it (pause, then wait for deals already in
+ * progress to finish). Engines call {@link #enter()} before and {@link #exit()} after each deal;
+ * while paused {@link #enter()} blocks, so deals queued on the table's executor wait their turn
+ * rather than being lost.
+ */
+public class DealGate {
+   private final ReentrantLock lock = new ReentrantLock();
+   private final Condition changed = lock.newCondition();
+   private volatile boolean paused = false;
+   // only changed while holding lock
+   private volatile int active = 0;
+
+   /**
+    * Waits while the gate is paused, then counts a deal as in progress
+    *
+    * @throws IllegalStateException if interrupted while waiting (the interrupt flag is kept)
+    */
+   public void enter() {
+      lock.lock();
+      try {
+         while (paused) {
+            changed.await();
+         }
+         active++;
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while dealing was paused", e);
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   /**
+    * Counts a deal started with {@link #enter()} as finished
+    */
+   public void exit() {
+      lock.lock();
+      try {
+         active--;
+         changed.signalAll();
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   public void pause() {
+      paused = true;
+   }
+
+   public void resume() {
+      lock.lock();
+      try {
+         paused = false;
+         changed.signalAll();
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   public boolean isPaused() {
+      return paused;
+   }
+
+   /**
+    * @return deals currently in progress
+    */
+   public int getActiveDeals() {
+      return active;
+   }
+
+   /**
+    * Pauses dealing and waits for deals in progress to finish. The gate stays paused afterwards,
+    * call {@link #resume()} to carry on.
+    *
+    * @param timeout maximum time to wait
+    * @param unit    unit of timeout
+    *
+    * @return true if no deals are in progress, false if the timeout elapsed first
+    *
+    * @throws InterruptedException if interrupted while waiting
+    */
+   public boolean drain(long timeout, TimeUnit unit) throws InterruptedException {
+      pause();
+      long nanos = unit.toNanos(timeout);
+      lock.lock();
+      try {
+         while (active > 0) {
+            if (nanos <= 0) {
+               return false;
+            }
+            nanos = changed.awaitNanos(nanos);
+         }
+         return true;
+      } finally {
+         lock.unlock();
+      }
+   }
+}
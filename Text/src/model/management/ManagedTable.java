@@ -0,0 +1,18 @@
+package model.management;
+
+/**
+ * A table that can be inspected and controlled through {@link TableManagement}
+ */
+public interface ManagedTable {
+   /**
+    * @return the latest snapshot, never null
+    */
+   TableSnapshot getSnapshot();
+
+   DealGate getDealGate();
+
+   /**
+    * @return tasks waiting on the table's executor, or -1 if the executor can't tell
+    */
+   int getQueueDepth();
+}
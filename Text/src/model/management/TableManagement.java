@@ -0,0 +1,141 @@
+package model.management;
+
+import model.metrics.JmxMetricsExporter;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MBean exposing a {@link ManagedTable}: players, points and bets, rounds and cards dealt, executor
+ * queue depth, and operations to pause, resume or drain dealing. Register it with
+ * {@link #register(String, ManagedTable)}.
+ */
+public class TableManagement implements TableManagementMBean {
+   private final ManagedTable table;
+
+   public TableManagement(ManagedTable table) {
+      this.table = table;
+   }
+
+   /**
+    * Registers an MBean for the table with the platform MBean server as
+    * {@code blackjack:type=Table,name=<name>}
+    *
+    * @return the name registered, for {@link #unregister(ObjectName)}
+    *
+    * @throws IllegalStateException if the MBean can't be registered (e.g. the name is taken)
+    */
+   public static ObjectName register(String name, ManagedTable table) {
+      try {
+         ObjectName objectName = new ObjectName(JmxMetricsExporter.DEFAULT_DOMAIN + ":type=Table,name=" + ObjectName.quote(name));
+         ManagementFactory.getPlatformMBeanServer().registerMBean(new TableManagement(table), objectName);
+         return objectName;
+      } catch (JMException e) {
+         throw new IllegalStateException("Could not register table MBean " + name, e);
+      }
+   }
+
+   public static void unregister(ObjectName objectName) {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      try {
+         server.unregisterMBean(objectName);
+      } catch (JMException e) {
+         // already gone
+      }
+   }
+
+   /**
+    * @return tasks queued on a {@link ThreadPoolExecutor}, or -1 for other executors
+    */
+   public static int queueDepth(Executor executor) {
+      if (executor instanceof ThreadPoolExecutor) {
+         return ((ThreadPoolExecutor) executor).getQueue().size();
+      }
+      return -1;
+   }
+
+   @Override
+   public int getPlayerCount() {
+      return table.getSnapshot().getPlayerCount();
+   }
+
+   @Override
+   public String[] getPlayerIds() {
+      return table.getSnapshot().getPlayerIds();
+   }
+
+   @Override
+   public String[] getPlayerNames() {
+      return table.getSnapshot().getPlayerNames();
+   }
+
+   @Override
+   public int[] getPlayerPoints() {
+      return table.getSnapshot().getPlayerPoints();
+   }
+
+   @Override
+   public int[] getPlayerBets() {
+      return table.getSnapshot().getPlayerBets();
+   }
+
+   @Override
+   public String[] getPlayers() {
+      return table.getSnapshot().describePlayers();
+   }
+
+   @Override
+   public long getRoundsDealt() {
+      return table.getSnapshot().getRoundsDealt();
+   }
+
+   @Override
+   public long getCardsDealt() {
+      return table.getSnapshot().getCardsDealt();
+   }
+
+   @Override
+   public long getBusts() {
+      return table.getSnapshot().getBusts();
+   }
+
+   @Override
+   public long getSnapshotAgeMillis() {
+      return System.currentTimeMillis() - table.getSnapshot().getTakenMillis();
+   }
+
+   @Override
+   public int getQueueDepth() {
+      return table.getQueueDepth();
+   }
+
+   @Override
+   public int getActiveDeals() {
+      return table.getDealGate().getActiveDeals();
+   }
+
+   @Override
+   public boolean isPaused() {
+      return table.getDealGate().isPaused();
+   }
+
+   @Override
+   public void pause() {
+      table.getDealGate().pause();
+   }
+
+   @Override
+   public void resume() {
+      table.getDealGate().resume();
+   }
+
+   @Override
+   public boolean drain(long timeoutMillis) throws InterruptedException {
+      return table.getDealGate().drain(timeoutMillis, TimeUnit.MILLISECONDS);
+   }
+}
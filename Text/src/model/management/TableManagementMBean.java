@@ -0,0 +1,49 @@
+package model.management;
+
+/**
+ * JMX interface of {@link TableManagement}. Player and counter attributes come from the last
+ * {@link TableSnapshot}; see {@link #getSnapshotAgeMillis()}.
+ */
+public interface TableManagementMBean {
+   int getPlayerCount();
+
+   String[] getPlayerIds();
+
+   String[] getPlayerNames();
+
+   int[] getPlayerPoints();
+
+   int[] getPlayerBets();
+
+   String[] getPlayers();
+
+   long getRoundsDealt();
+
+   long getCardsDealt();
+
+   long getBusts();
+
+   long getSnapshotAgeMillis();
+
+   int getQueueDepth();
+
+   int getActiveDeals();
+
+   boolean isPaused();
+
+   /**
+    * Stops new deals from starting until {@link #resume()}
+    */
+   void pause();
+
+   void resume();
+
+   /**
+    * Pauses, then waits for deals in progress to finish
+    *
+    * @param timeoutMillis maximum time to wait
+    *
+    * @return true if the table is idle
+    */
+   boolean drain(long timeoutMillis) throws InterruptedException;
+}
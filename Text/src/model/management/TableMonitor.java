@@ -0,0 +1,67 @@
+package model.management;
+
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import view.interfaces.BlackEngineCallback;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Callback that counts cards, busts and rounds and keeps a {@link TableSnapshot}, rebuilt at the end
+ * of each round (on the dealing thread) and whenever the engine calls {@link #refresh(Collection)}
+ * after changing players or bets. Reading the snapshot is a single volatile read, so polling it
+ * as often as you like doesn't contend with dealing.
+ */
+public class TableMonitor implements BlackEngineCallback {
+   private final LongAdder rounds = new LongAdder();
+   private final LongAdder cards = new LongAdder();
+   private final LongAdder busts = new LongAdder();
+   private volatile TableSnapshot snapshot = TableSnapshot.EMPTY;
+
+   public TableSnapshot getSnapshot() {
+      return snapshot;
+   }
+
+   /**
+    * Rebuilds the snapshot
+    *
+    * @param players the table's players, e.g. {@link BlackEngine#getAllPersons()}
+    */
+   public void refresh(Collection<Player> players) {
+      snapshot = new TableSnapshot(players, rounds.sum(), cards.sum(), busts.sum());
+   }
+
+   @Override
+   public void nextCard(Player player, PokerCard card, BlackEngine engine) {
+      cards.increment();
+   }
+
+   @Override
+   public void bustCard(Player player, PokerCard card, BlackEngine engine) {
+      cards.increment();
+      busts.increment();
+   }
+
+   @Override
+   public void result(Player player, int result, BlackEngine engine) {
+   }
+
+   @Override
+   public void nextHouseCard(PokerCard card, BlackEngine engine) {
+      cards.increment();
+   }
+
+   @Override
+   public void houseBustCard(PokerCard card, BlackEngine engine) {
+      cards.increment();
+      busts.increment();
+   }
+
+   @Override
+   public void houseResult(int result, BlackEngine engine) {
+      rounds.increment();
+      refresh(engine.getAllPersons());
+   }
+}
@@ -0,0 +1,113 @@
+package model.management;
+
+import model.interfaces.Player;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Immutable copy of a table's players and counters, taken by {@link TableMonitor} on the dealing
+ * thread so readers (e.g. JMX) never touch live game state.
+ */
+public final class TableSnapshot {
+   static final TableSnapshot EMPTY = new TableSnapshot(Collections.<Player>emptyList(), 0, 0, 0);
+
+   private final long takenMillis = System.currentTimeMillis();
+   private final String[] ids;
+   private final String[] names;
+   private final int[] points;
+   private final int[] bets;
+   private final int[] results;
+   private final long roundsDealt;
+   private final long cardsDealt;
+   private final long busts;
+
+   TableSnapshot(Collection<Player> players, long roundsDealt, long cardsDealt, long busts) {
+      int size = players.size();
+      String[] ids = new String[size];
+      String[] names = new String[size];
+      int[] points = new int[size];
+      int[] bets = new int[size];
+      int[] results = new int[size];
+      int i = 0;
+      for (Player player : players) {
+         // the collection may have grown since size() was read
+         if (i == size) {
+            break;
+         }
+         ids[i] = player.getPersonId();
+         names[i] = player.getPersonName();
+         points[i] = player.getPoints();
+         bets[i] = player.getBet();
+         results[i] = player.getResult();
+         i++;
+      }
+      this.ids = i == size ? ids : Arrays.copyOf(ids, i);
+      this.names = i == size ? names : Arrays.copyOf(names, i);
+      this.points = i == size ? points : Arrays.copyOf(points, i);
+      this.bets = i == size ? bets : Arrays.copyOf(bets, i);
+      this.results = i == size ? results : Arrays.copyOf(results, i);
+      this.roundsDealt = roundsDealt;
+      this.cardsDealt = cardsDealt;
+      this.busts = busts;
+   }
+
+   public long getTakenMillis() {
+      return takenMillis;
+   }
+
+   public int getPlayerCount() {
+      return ids.length;
+   }
+
+   public String[] getPlayerIds() {
+      return ids.clone();
+   }
+
+   public String[] getPlayerNames() {
+      return names.clone();
+   }
+
+   public int[] getPlayerPoints() {
+      return points.clone();
+   }
+
+   public int[] getPlayerBets() {
+      return bets.clone();
+   }
+
+   public int[] getPlayerResults() {
+      return results.clone();
+   }
+
+   public long getRoundsDealt() {
+      return roundsDealt;
+   }
+
+   /**
+    * @return cards dealt to players and the house, counted from nextCard/nextHouseCard callbacks
+    */
+   public long getCardsDealt() {
+      return cardsDealt;
+   }
+
+   /**
+    * @return bust callbacks, players and house
+    */
+   public long getBusts() {
+      return busts;
+   }
+
+   /**
+    * @return one line per player, in the style of {@link model.SimplePerson#toString()}
+    */
+   public String[] describePlayers() {
+      String[] lines = new String[ids.length];
+      for (int i = 0; i < ids.length; i++) {
+         lines[i] = String.format("Player: id=\"%s\", name=\"%s\", bet=%d, points=%d, RESULT .. %d",
+               ids[i], names[i], bets[i], points[i], results[i]);
+      }
+      return lines;
+   }
+}
@@ -0,0 +1,17 @@
+package model.metrics;
+
+/**
+ * JMX view of the counters in {@link EngineMetrics}, registered by {@link JmxMetricsExporter}
+ */
+public interface EngineCountersMBean {
+   long getBetsPlaced();
+
+   long getBetsRejected();
+
+   long getAmountBet();
+
+   /**
+    * Clears all counters and histograms
+    */
+   void reset();
+}
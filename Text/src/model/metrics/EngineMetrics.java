@@ -0,0 +1,87 @@
+package model.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms maintained by {@link InstrumentedBlackEngine}. Histograms are
+ * created on first use and named after what they time, e.g. {@code dealPerson} or
+ * {@code callback.BlackEngineCallbackImpl.nextCard}; the count of each histogram is the number of
+ * calls. All values are cumulative since creation or the last {@link #reset()}.
+ */
+public class EngineMetrics {
+   public static final String DEAL_PERSON = "dealPerson";
+   public static final String DEAL_HOUSE = "dealHouse";
+   public static final String PLACE_BET = "placeBet";
+   public static final String APPLY_WIN_LOSS = "applyWinLoss";
+   public static final String CALLBACK_PREFIX = "callback.";
+
+   private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+   final LongAdder betsPlaced = new LongAdder();
+   final LongAdder betsRejected = new LongAdder();
+   final LongAdder amountBet = new LongAdder();
+
+   /**
+    * @param name name of the histogram
+    *
+    * @return the histogram with this name, created if necessary
+    */
+   public LatencyHistogram histogram(String name) {
+      LatencyHistogram histogram = histograms.get(name);
+      if (histogram == null) {
+         LatencyHistogram created = new LatencyHistogram(name);
+         histogram = histograms.putIfAbsent(name, created);
+         if (histogram == null) {
+            histogram = created;
+         }
+      }
+      return histogram;
+   }
+
+   /**
+    * @return every histogram created so far, sorted by name
+    */
+   public List<LatencyHistogram> getHistograms() {
+      return new ArrayList<>(new TreeMap<>(histograms).values());
+   }
+
+   public long getBetsPlaced() {
+      return betsPlaced.sum();
+   }
+
+   /**
+    * @return bets refused by the engine (e.g. more than the player's points)
+    */
+   public long getBetsRejected() {
+      return betsRejected.sum();
+   }
+
+   /**
+    * @return total of all accepted bets
+    */
+   public long getAmountBet() {
+      return amountBet.sum();
+   }
+
+   /**
+    * Clears all counters and histograms (histograms already created are kept)
+    */
+   public void reset() {
+      betsPlaced.reset();
+      betsRejected.reset();
+      amountBet.reset();
+      for (LatencyHistogram histogram : histograms.values()) {
+         histogram.reset();
+      }
+   }
+
+   @Override
+   public String toString() {
+      return String.format("EngineMetrics{bets=%d (rejected %d), amountBet=%d, histograms=%d}",
+            getBetsPlaced(), getBetsRejected(), getAmountBet(), histograms.size());
+   }
+}
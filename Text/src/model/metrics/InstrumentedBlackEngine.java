@@ -0,0 +1,214 @@
+package model.metrics;
+
+import model.DelegatingBlackEngine;
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import view.interfaces.BlackEngineCallback;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Decorator that records how long {@code dealPerson}, {@code dealHouse}, {@code placeBet} and
+ * {@code applyWinLoss} take, and how long each callback added through it takes per method, in
+ * {@link EngineMetrics}. Use an exporter ({@link TextMetricsExporter}, {@link JmxMetricsExporter})
+ * to look at the results.
+ * <p>
+ * Times are as seen by the caller: a deal includes the callbacks it fires, and with a delay the
+ * pauses between cards. Callbacks are timed per class, so several callbacks of the same class share
+ * histograms. Callbacks added directly to the wrapped engine are not timed, nor are
+ * {@code applyWinLoss} calls the wrapped engine makes itself while settling a round.
+ */
+public class InstrumentedBlackEngine extends DelegatingBlackEngine {
+   private final EngineMetrics metrics;
+   private final LatencyHistogram dealPerson;
+   private final LatencyHistogram dealHouse;
+   private final LatencyHistogram placeBet;
+   private final LatencyHistogram applyWinLoss;
+   // callbacks as added -> timing wrapper added to the engine, so they can be removed
+   private final Map<BlackEngineCallback, TimedCallback> callbacks = new IdentityHashMap<>();
+
+   public InstrumentedBlackEngine(BlackEngine engine) {
+      this(engine, new EngineMetrics());
+   }
+
+   /**
+    * @param engine  engine to instrument
+    * @param metrics metrics to record to, may be shared between engines
+    */
+   public InstrumentedBlackEngine(BlackEngine engine, EngineMetrics metrics) {
+      super(engine);
+      this.metrics = metrics;
+      this.dealPerson = metrics.histogram(EngineMetrics.DEAL_PERSON);
+      this.dealHouse = metrics.histogram(EngineMetrics.DEAL_HOUSE);
+      this.placeBet = metrics.histogram(EngineMetrics.PLACE_BET);
+      this.applyWinLoss = metrics.histogram(EngineMetrics.APPLY_WIN_LOSS);
+   }
+
+   public EngineMetrics getMetrics() {
+      return metrics;
+   }
+
+   @Override
+   public void dealPerson(Player player, int delay) throws IllegalArgumentException {
+      long start = System.nanoTime();
+      try {
+         super.dealPerson(player, delay);
+      } finally {
+         dealPerson.record(System.nanoTime() - start);
+      }
+   }
+
+   @Override
+   public void dealHouse(int delay) throws IllegalArgumentException {
+      long start = System.nanoTime();
+      try {
+         super.dealHouse(delay);
+      } finally {
+         dealHouse.record(System.nanoTime() - start);
+      }
+   }
+
+   @Override
+   public void applyWinLoss(Player player, int houseResult) {
+      long start = System.nanoTime();
+      try {
+         super.applyWinLoss(player, houseResult);
+      } finally {
+         applyWinLoss.record(System.nanoTime() - start);
+      }
+   }
+
+   @Override
+   public boolean placeBet(Player player, int bet) {
+      long start = System.nanoTime();
+      try {
+         boolean placed = super.placeBet(player, bet);
+         if (placed) {
+            metrics.betsPlaced.increment();
+            metrics.amountBet.add(bet);
+         }
+         else {
+            metrics.betsRejected.increment();
+         }
+         return placed;
+      } finally {
+         placeBet.record(System.nanoTime() - start);
+      }
+   }
+
+   @Override
+   public void addBlackEngineCallback(BlackEngineCallback gameEngineCallback) {
+      TimedCallback timed;
+      synchronized (callbacks) {
+         if (callbacks.containsKey(gameEngineCallback)) {
+            return;
+         }
+         timed = new TimedCallback(gameEngineCallback, metrics);
+         callbacks.put(gameEngineCallback, timed);
+      }
+      super.addBlackEngineCallback(timed);
+   }
+
+   @Override
+   public boolean removeBlackEngineCallback(BlackEngineCallback gameEngineCallback) {
+      TimedCallback timed;
+      synchronized (callbacks) {
+         timed = callbacks.remove(gameEngineCallback);
+      }
+      return timed == null ? super.removeBlackEngineCallback(gameEngineCallback)
+            : super.removeBlackEngineCallback(timed);
+   }
+
+   /**
+    * Times each method of a callback into histograms named {@code callback.<class>.<method>}
+    */
+   private static final class TimedCallback implements BlackEngineCallback {
+      private final BlackEngineCallback callback;
+      private final LatencyHistogram nextCard;
+      private final LatencyHistogram bustCard;
+      private final LatencyHistogram result;
+      private final LatencyHistogram nextHouseCard;
+      private final LatencyHistogram houseBustCard;
+      private final LatencyHistogram houseResult;
+
+      TimedCallback(BlackEngineCallback callback, EngineMetrics metrics) {
+         this.callback = callback;
+         Class<?> type = callback.getClass();
+         String prefix = EngineMetrics.CALLBACK_PREFIX
+               + (type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName()) + '.';
+         this.nextCard = metrics.histogram(prefix + "nextCard");
+         this.bustCard = metrics.histogram(prefix + "bustCard");
+         this.result = metrics.histogram(prefix + "result");
+         this.nextHouseCard = metrics.histogram(prefix + "nextHouseCard");
+         this.houseBustCard = metrics.histogram(prefix + "houseBustCard");
+         this.houseResult = metrics.histogram(prefix + "houseResult");
+      }
+
+      @Override
+      public void nextCard(Player player, PokerCard card, BlackEngine engine) {
+         long start = System.nanoTime();
+         try {
+            callback.nextCard(player, card, engine);
+         } finally {
+            nextCard.record(System.nanoTime() - start);
+         }
+      }
+
+      @Override
+      public void bustCard(Player player, PokerCard card, BlackEngine engine) {
+         long start = System.nanoTime();
+         try {
+            callback.bustCard(player, card, engine);
+         } finally {
+            bustCard.record(System.nanoTime() - start);
+         }
+      }
+
+      @Override
+      public void result(Player player, int result, BlackEngine engine) {
+         long start = System.nanoTime();
+         try {
+            callback.result(player, result, engine);
+         } finally {
+            this.result.record(System.nanoTime() - start);
+         }
+      }
+
+      @Override
+      public void nextHouseCard(PokerCard card, BlackEngine engine) {
+         long start = System.nanoTime();
+         try {
+            callback.nextHouseCard(card, engine);
+         } finally {
+            nextHouseCard.record(System.nanoTime() - start);
+         }
+      }
+
+      @Override
+      public void houseBustCard(PokerCard card, BlackEngine engine) {
+         long start = System.nanoTime();
+         try {
+            callback.houseBustCard(card, engine);
+         } finally {
+            houseBustCard.record(System.nanoTime() - start);
+         }
+      }
+
+      @Override
+      public void houseResult(int result, BlackEngine engine) {
+         long start = System.nanoTime();
+         try {
+            callback.houseResult(result, engine);
+         } finally {
+            houseResult.record(System.nanoTime() - start);
+         }
+      }
+
+      @Override
+      public String toString() {
+         return callback.toString();
+      }
+   }
+}
@@ -0,0 +1,153 @@
+package model.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Registers live MBeans for {@link EngineMetrics}: one for the counters
+ * ({@code <domain>:type=Engine,name=<name>}) and one per histogram
+ * ({@code <domain>:type=Latency,engine=<name>,name=<histogram>}). Values are read when JMX asks for
+ * them, so {@link #export(EngineMetrics)} only needs calling again to pick up histograms created
+ * since (e.g. for callbacks added later). Call {@link #unregister()} when the engine goes away.
+ */
+public class JmxMetricsExporter implements MetricsExporter {
+   public static final String DEFAULT_DOMAIN = "blackjack";
+
+   private final MBeanServer server;
+   private final String domain;
+   private final String name;
+   private final Set<ObjectName> registered = new HashSet<>();
+
+   /**
+    * @param name name of the engine, to tell several engines apart
+    */
+   public JmxMetricsExporter(String name) {
+      this(ManagementFactory.getPlatformMBeanServer(), DEFAULT_DOMAIN, name);
+   }
+
+   public JmxMetricsExporter(MBeanServer server, String domain, String name) {
+      this.server = server;
+      this.domain = domain;
+      this.name = name;
+   }
+
+   /**
+    * @throws IllegalStateException if an MBean can't be registered
+    */
+   @Override
+   public synchronized void export(EngineMetrics metrics) {
+      try {
+         register(objectName("type=Engine,name=" + ObjectName.quote(name)),
+               new StandardMBean(new Counters(metrics), EngineCountersMBean.class));
+         for (LatencyHistogram histogram : metrics.getHistograms()) {
+            register(objectName("type=Latency,engine=" + ObjectName.quote(name) + ",name="
+                        + ObjectName.quote(histogram.getName())),
+                  new StandardMBean(new Latency(histogram), LatencyMBean.class));
+         }
+      } catch (JMException e) {
+         throw new IllegalStateException("Could not register metrics MBeans", e);
+      }
+   }
+
+   /**
+    * Unregisters every MBean registered by this exporter
+    */
+   public synchronized void unregister() {
+      for (ObjectName objectName : registered) {
+         try {
+            server.unregisterMBean(objectName);
+         } catch (JMException e) {
+            // already gone
+         }
+      }
+      registered.clear();
+   }
+
+   private ObjectName objectName(String properties) throws JMException {
+      return new ObjectName(domain + ":" + properties);
+   }
+
+   private void register(ObjectName objectName, StandardMBean mbean) throws JMException {
+      if (registered.contains(objectName)) {
+         return;
+      }
+      server.registerMBean(mbean, objectName);
+      registered.add(objectName);
+   }
+
+   private static final class Counters implements EngineCountersMBean {
+      private final EngineMetrics metrics;
+
+      Counters(EngineMetrics metrics) {
+         this.metrics = metrics;
+      }
+
+      @Override
+      public long getBetsPlaced() {
+         return metrics.getBetsPlaced();
+      }
+
+      @Override
+      public long getBetsRejected() {
+         return metrics.getBetsRejected();
+      }
+
+      @Override
+      public long getAmountBet() {
+         return metrics.getAmountBet();
+      }
+
+      @Override
+      public void reset() {
+         metrics.reset();
+      }
+   }
+
+   private static final class Latency implements LatencyMBean {
+      private final LatencyHistogram histogram;
+
+      Latency(LatencyHistogram histogram) {
+         this.histogram = histogram;
+      }
+
+      @Override
+      public long getCount() {
+         return histogram.getCount();
+      }
+
+      @Override
+      public double getMeanMicros() {
+         return histogram.getMeanNanos() / 1e3;
+      }
+
+      @Override
+      public double getP50Micros() {
+         return histogram.getValueAtPercentile(50) / 1e3;
+      }
+
+      @Override
+      public double getP99Micros() {
+         return histogram.getValueAtPercentile(99) / 1e3;
+      }
+
+      @Override
+      public double getP999Micros() {
+         return histogram.getValueAtPercentile(99.9) / 1e3;
+      }
+
+      @Override
+      public double getMaxMicros() {
+         return histogram.getMaxNanos() / 1e3;
+      }
+
+      @Override
+      public void reset() {
+         histogram.reset();
+      }
+   }
+}
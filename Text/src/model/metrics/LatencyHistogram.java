@@ -0,0 +1,138 @@
+package model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed size, lock free histogram of durations in nanoseconds with HDR-style log-linear buckets:
+ * values below 32 are counted exactly and every power of two above that is split into 32 equal
+ * buckets, so any recorded value is reported within about 3% (one bucket). Recording is one array
+ * increment and a couple of adders, with no allocation.
+ * <p>
+ * Reads are not atomic with respect to concurrent {@link #record(long)} calls, which is fine for
+ * monitoring.
+ */
+public class LatencyHistogram {
+   private static final int SUB_BUCKET_BITS = 5;
+   private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+   // exact buckets for 0..31, then 32 buckets for each of the 58 powers of two from 2^5 to 2^62
+   private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+   private final String name;
+   private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+   private final LongAdder count = new LongAdder();
+   private final LongAdder total = new LongAdder();
+   private volatile long max;
+
+   public LatencyHistogram(String name) {
+      this.name = name;
+   }
+
+   public String getName() {
+      return name;
+   }
+
+   /**
+    * @param nanos duration to record, negative values are counted as 0
+    */
+   public void record(long nanos) {
+      if (nanos < 0) {
+         nanos = 0;
+      }
+      counts.incrementAndGet(bucket(nanos));
+      count.increment();
+      total.add(nanos);
+      // racy check first so the common case is a single volatile read
+      if (nanos > max) {
+         synchronized (this) {
+            if (nanos > max) {
+               max = nanos;
+            }
+         }
+      }
+   }
+
+   public long getCount() {
+      return count.sum();
+   }
+
+   public long getTotalNanos() {
+      return total.sum();
+   }
+
+   public long getMaxNanos() {
+      return max;
+   }
+
+   public double getMeanNanos() {
+      long n = count.sum();
+      return n == 0 ? 0 : (double) total.sum() / n;
+   }
+
+   /**
+    * @param percentile 0 to 100
+    *
+    * @return the highest value in the bucket containing the given percentile (never more than the
+    * maximum recorded), 0 if nothing has been recorded
+    */
+   public long getValueAtPercentile(double percentile) {
+      if (percentile < 0 || percentile > 100) {
+         throw new IllegalArgumentException("percentile must be between 0 and 100");
+      }
+      long[] snapshot = new long[BUCKETS];
+      long n = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+         snapshot[i] = counts.get(i);
+         n += snapshot[i];
+      }
+      if (n == 0) {
+         return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+         seen += snapshot[i];
+         if (seen >= rank) {
+            return Math.min(highestValue(i), max);
+         }
+      }
+      return max;
+   }
+
+   /**
+    * Clears all recorded values
+    */
+   public synchronized void reset() {
+      for (int i = 0; i < BUCKETS; i++) {
+         counts.set(i, 0);
+      }
+      count.reset();
+      total.reset();
+      max = 0;
+   }
+
+   @Override
+   public String toString() {
+      return String.format("%s{count=%d, mean=%.1f us, p50=%.1f us, p99=%.1f us, p99.9=%.1f us, max=%.1f us}",
+            name, getCount(), getMeanNanos() / 1e3, getValueAtPercentile(50) / 1e3,
+            getValueAtPercentile(99) / 1e3, getValueAtPercentile(99.9) / 1e3, getMaxNanos() / 1e3);
+   }
+
+   static int bucket(long value) {
+      if (value < SUB_BUCKETS) {
+         return (int) value;
+      }
+      int msb = 63 - Long.numberOfLeadingZeros(value);
+      int shift = msb - SUB_BUCKET_BITS;
+      return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+   }
+
+   static long highestValue(int bucket) {
+      if (bucket < SUB_BUCKETS) {
+         return bucket;
+      }
+      int shift = bucket / SUB_BUCKETS - 1;
+      long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+      return lowest + (1L << shift) - 1;
+   }
+}
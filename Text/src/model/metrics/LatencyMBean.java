@@ -0,0 +1,21 @@
+package model.metrics;
+
+/**
+ * JMX view of one {@link LatencyHistogram}, registered by {@link JmxMetricsExporter}. Times are in
+ * microseconds.
+ */
+public interface LatencyMBean {
+   long getCount();
+
+   double getMeanMicros();
+
+   double getP50Micros();
+
+   double getP99Micros();
+
+   double getP999Micros();
+
+   double getMaxMicros();
+
+   void reset();
+}
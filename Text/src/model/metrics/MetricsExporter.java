@@ -0,0 +1,17 @@
+package model.metrics;
+
+/**
+ * Publishes {@link EngineMetrics} somewhere they can be looked at.
+ *
+ * @see TextMetricsExporter
+ * @see JmxMetricsExporter
+ */
+public interface MetricsExporter {
+   /**
+    * Publishes the current values (or, for live exporters, makes sure every histogram created so far
+    * is published). May be called repeatedly.
+    *
+    * @param metrics metrics to export
+    */
+   void export(EngineMetrics metrics);
+}
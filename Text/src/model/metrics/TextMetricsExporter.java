@@ -0,0 +1,64 @@
+package model.metrics;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Prints a plain-text table of the counters and every histogram (count, mean, percentiles and max
+ * in microseconds), slowest p99 first so slow callbacks stand out.
+ */
+public class TextMetricsExporter implements MetricsExporter {
+   private final PrintStream out;
+
+   public TextMetricsExporter() {
+      this(System.out);
+   }
+
+   public TextMetricsExporter(PrintStream out) {
+      this.out = out;
+   }
+
+   @Override
+   public void export(EngineMetrics metrics) {
+      out.print(format(metrics));
+      out.flush();
+   }
+
+   /**
+    * @return the text that {@link #export(EngineMetrics)} prints
+    */
+   public static String format(EngineMetrics metrics) {
+      StringBuilder s = new StringBuilder();
+      String newLine = System.lineSeparator();
+      s.append(String.format("bets placed=%d, rejected=%d, amount=%d", metrics.getBetsPlaced(),
+            metrics.getBetsRejected(), metrics.getAmountBet())).append(newLine);
+      s.append(String.format("%-50s %12s %10s %10s %10s %10s %10s", "latency (us)", "count", "mean", "p50",
+            "p99", "p99.9", "max")).append(newLine);
+
+      List<LatencyHistogram> histograms = metrics.getHistograms();
+      long[] p99 = new long[histograms.size()];
+      Integer[] order = new Integer[histograms.size()];
+      for (int i = 0; i < order.length; i++) {
+         p99[i] = histograms.get(i).getValueAtPercentile(99);
+         order[i] = i;
+      }
+      Arrays.sort(order, new Comparator<Integer>() {
+         @Override
+         public int compare(Integer a, Integer b) {
+            return Long.compare(p99[b], p99[a]);
+         }
+      });
+      for (Integer i : order) {
+         LatencyHistogram h = histograms.get(i);
+         if (h.getCount() == 0) {
+            continue;
+         }
+         s.append(String.format("%-50s %12d %10.1f %10.1f %10.1f %10.1f %10.1f", h.getName(), h.getCount(),
+               h.getMeanNanos() / 1e3, h.getValueAtPercentile(50) / 1e3, p99[i] / 1e3,
+               h.getValueAtPercentile(99.9) / 1e3, h.getMaxNanos() / 1e3)).append(newLine);
+      }
+      return s.toString();
+   }
+}
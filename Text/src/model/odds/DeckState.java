@@ -0,0 +1,109 @@
+package model.odds;
+
+import model.PackedCards;
+import model.interfaces.PokerCard;
+
+/**
+ * The only part of a deck that matters for scoring: how many cards of each score value
+ * (8, 9, 10 and 11) are left. Immutable.
+ */
+public final class DeckState {
+   public static final int MIN_CARD_SCORE = 8;
+   public static final int MAX_CARD_SCORE = 11;
+   static final int NUM_SCORES = MAX_CARD_SCORE - MIN_CARD_SCORE + 1;
+
+   /**
+    * A freshly shuffled 28 card half deck
+    */
+   public static final DeckState FULL = of(PackedCards.FULL_DECK);
+
+   // counts indexed by (score - MIN_CARD_SCORE)
+   private final int[] counts;
+   private final int size;
+
+   private DeckState(int[] counts) {
+      this.counts = counts;
+      int total = 0;
+      for (int count : counts) {
+         total += count;
+      }
+      this.size = total;
+   }
+
+   /**
+    * @param remaining {@link PackedCards} mask of the cards left in the deck, e.g. {@link model.Deck#remainingMask()}
+    *
+    * @return deck state
+    */
+   public static DeckState of(long remaining) {
+      int[] counts = new int[NUM_SCORES];
+      while (remaining != 0) {
+         counts[PackedCards.score(Long.numberOfTrailingZeros(remaining)) - MIN_CARD_SCORE]++;
+         remaining &= remaining - 1;
+      }
+      return new DeckState(counts);
+   }
+
+   /**
+    * @param remaining the cards left in the deck, e.g. {@link model.interfaces.BlackEngine#getShuffledHalfDeck()}
+    *
+    * @return deck state
+    */
+   public static DeckState of(Iterable<? extends PokerCard> remaining) {
+      return of(PackedCards.toMask(remaining));
+   }
+
+   /**
+    * @param score card score between {@link #MIN_CARD_SCORE} and {@link #MAX_CARD_SCORE}
+    *
+    * @return number of cards with that score left
+    */
+   public int count(int score) {
+      return counts[score - MIN_CARD_SCORE];
+   }
+
+   /**
+    * @return number of cards left
+    */
+   public int size() {
+      return size;
+   }
+
+   /**
+    * @param score score of the card being dealt
+    *
+    * @return the state after dealing a card with that score
+    *
+    * @throws IllegalArgumentException if no such card is left
+    */
+   public DeckState deal(int score) {
+      if (count(score) == 0) {
+         throw new IllegalArgumentException("No cards with score " + score + " left");
+      }
+      int[] next = counts.clone();
+      next[score - MIN_CARD_SCORE]--;
+      return new DeckState(next);
+   }
+
+   /**
+    * @return a dense key (5 * 5 * 17 * 5 possible states) used for caching
+    */
+   int key() {
+      return ((counts[0] * 5 + counts[1]) * 17 + counts[2]) * 5 + counts[3];
+   }
+
+   @Override
+   public boolean equals(Object o) {
+      return this == o || (o instanceof DeckState && key() == ((DeckState) o).key());
+   }
+
+   @Override
+   public int hashCode() {
+      return key();
+   }
+
+   @Override
+   public String toString() {
+      return String.format("DeckState{8s=%d, 9s=%d, 10s=%d, 11s=%d}", counts[0], counts[1], counts[2], counts[3]);
+   }
+}
@@ -0,0 +1,97 @@
+package model.odds;
+
+import model.interfaces.BlackEngine;
+
+/**
+ * Exact probability of each final result of a hand, as calculated by {@link OutcomeCalculator}.
+ * <p>
+ * As in {@code BlackEngineImpl.getScore}, a hand either finishes on exactly
+ * {@link BlackEngine#BUST_LEVEL} or busts and keeps its pre-bust total.
+ */
+public final class HandOdds {
+   private final double[] probabilities;
+
+   /**
+    * @param probabilities probability of each final score 0..BUST_LEVEL (not copied)
+    */
+   HandOdds(double[] probabilities) {
+      this.probabilities = probabilities;
+   }
+
+   /**
+    * @param score final score between 0 and {@link BlackEngine#BUST_LEVEL}
+    *
+    * @return probability that the hand finishes on {@code score}
+    */
+   public double probability(int score) {
+      return score < 0 || score >= probabilities.length ? 0 : probabilities[score];
+   }
+
+   /**
+    * @return probability of busting (anything other than exactly {@link BlackEngine#BUST_LEVEL})
+    */
+   public double bustProbability() {
+      return 1 - probabilities[BlackEngine.BUST_LEVEL];
+   }
+
+   /**
+    * @param score a score
+    *
+    * @return probability that the hand finishes below {@code score}
+    */
+   public double probabilityBelow(int score) {
+      double total = 0;
+      for (int i = 0; i < Math.min(score, probabilities.length); i++) {
+         total += probabilities[i];
+      }
+      return total;
+   }
+
+   /**
+    * @param score a score
+    *
+    * @return probability that the hand finishes above {@code score}
+    */
+   public double probabilityAbove(int score) {
+      double total = 0;
+      for (int i = Math.max(0, score + 1); i < probabilities.length; i++) {
+         total += probabilities[i];
+      }
+      return total;
+   }
+
+   /**
+    * @return expected final score
+    */
+   public double expectedScore() {
+      double total = 0;
+      for (int i = 0; i < probabilities.length; i++) {
+         total += i * probabilities[i];
+      }
+      return total;
+   }
+
+   /**
+    * Treating these as the odds of the house hand, the expected gain of a player per unit bet
+    * (see {@link BlackEngine#applyWinLoss(model.interfaces.Player, int)})
+    *
+    * @param playerResult the player's final result
+    *
+    * @return P(house below player) - P(house above player)
+    */
+   public double playerExpectation(int playerResult) {
+      return probabilityBelow(playerResult) - probabilityAbove(playerResult);
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder s = new StringBuilder();
+      s.append(String.format("HandOdds{bust=%.4f, expected=%.3f", bustProbability(), expectedScore()));
+      for (int i = 0; i < probabilities.length; i++) {
+         if (probabilities[i] > 0) {
+            s.append(String.format(", %d=%.5f", i, probabilities[i]));
+         }
+      }
+      return s.append('}').toString();
+   }
+}
@@ -0,0 +1,100 @@
+package model.odds;
+
+import model.Deck;
+import model.interfaces.BlackEngine;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Exact final score distribution of a hand dealt from any deck state.
+ * <p>
+ * Only the number of cards left of each score value matters, so the distribution is calculated
+ * by dynamic programming over (8s, 9s, 10s, 11s, current score) and every sub-result is cached;
+ * there are fewer than 100,000 such states and a hand never takes more than six cards. When the
+ * deck runs out mid-hand it is reshuffled as a full deck, exactly like {@link Deck#dealCard()}.
+ * <p>
+ * Thread-safe. Use {@link #getInstance()} to share the cache.
+ */
+public class OutcomeCalculator {
+   private static final OutcomeCalculator INSTANCE = new OutcomeCalculator();
+
+   private final Map<Integer, double[]> cache = new HashMap<>();
+
+   public static OutcomeCalculator getInstance() {
+      return INSTANCE;
+   }
+
+   /**
+    * @param deck cards left in the deck
+    *
+    * @return odds for a new hand dealt from {@code deck}
+    */
+   public HandOdds handOdds(DeckState deck) {
+      return handOdds(deck, 0);
+   }
+
+   /**
+    * @param deck         cards left in the deck
+    * @param currentScore score of the hand so far (below {@link BlackEngine#BUST_LEVEL})
+    *
+    * @return odds for the rest of a hand already on {@code currentScore}
+    */
+   public HandOdds handOdds(DeckState deck, int currentScore) {
+      if (currentScore < 0 || currentScore >= BlackEngine.BUST_LEVEL) {
+         throw new IllegalArgumentException("currentScore must be between 0 and " + (BlackEngine.BUST_LEVEL - 1));
+      }
+      return new HandOdds(distribution(deck, currentScore));
+   }
+
+   /**
+    * @param deck a deck
+    *
+    * @return odds for a new hand dealt from the cards left in {@code deck}
+    */
+   public HandOdds handOdds(Deck deck) {
+      return handOdds(DeckState.of(deck.remainingMask()));
+   }
+
+   private double[] distribution(DeckState deck, int score) {
+      if (deck.size() == 0) {
+         deck = DeckState.FULL;
+      }
+      Integer key = deck.key() * BlackEngine.BUST_LEVEL + score;
+      double[] result;
+      synchronized (cache) {
+         result = cache.get(key);
+      }
+      if (result != null) {
+         return result;
+      }
+
+      result = new double[BlackEngine.BUST_LEVEL + 1];
+      for (int card = DeckState.MIN_CARD_SCORE; card <= DeckState.MAX_CARD_SCORE; card++) {
+         int count = deck.count(card);
+         if (count == 0) {
+            continue;
+         }
+         double p = (double) count / deck.size();
+         if (score + card > BlackEngine.BUST_LEVEL) {
+            // bust, keeps the pre-bust total
+            result[score] += p;
+         }
+         else if (score + card == BlackEngine.BUST_LEVEL) {
+            result[BlackEngine.BUST_LEVEL] += p;
+         }
+         else {
+            double[] next = distribution(deck.deal(card), score + card);
+            for (int i = 0; i < result.length; i++) {
+               result[i] += p * next[i];
+            }
+         }
+      }
+
+      // a concurrent caller may have calculated the same (identical) result; either copy is fine
+      synchronized (cache) {
+         cache.put(key, result);
+      }
+      return result;
+   }
+}
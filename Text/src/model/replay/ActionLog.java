@@ -0,0 +1,143 @@
+package model.replay;
+
+import util.random.RandomSource;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The seed of a table plus everything done to it, in order. Together they reproduce every card
+ * dealt, because the table's decks are shuffled only by {@link #newRandomSource()}.
+ * <p>
+ * Rounds end with {@link TableAction.Type#DEAL_HOUSE} and are numbered from 1. Thread-safe.
+ */
+public class ActionLog {
+   private static final int MAGIC = 0x424a4c47; // "BJLG"
+   private static final int VERSION = 1;
+
+   private final long seed;
+   private final List<TableAction> actions = new ArrayList<>();
+   // index of the first action after each round, i.e. roundEnds.get(r - 1) ends round r
+   private final List<Integer> roundEnds = new ArrayList<>();
+
+   public ActionLog(long seed) {
+      this.seed = seed;
+   }
+
+   public long getSeed() {
+      return seed;
+   }
+
+   /**
+    * @return a new random source for the table's decks, the same sequence every time
+    */
+   public RandomSource newRandomSource() {
+      return RandomSource.xoshiro(seed);
+   }
+
+   synchronized void add(TableAction action) {
+      actions.add(action);
+      if (action.getType() == TableAction.Type.DEAL_HOUSE) {
+         roundEnds.add(actions.size());
+      }
+   }
+
+   /**
+    * @return a copy of the actions so far
+    */
+   public synchronized List<TableAction> getActions() {
+      return Collections.unmodifiableList(new ArrayList<>(actions));
+   }
+
+   public synchronized int size() {
+      return actions.size();
+   }
+
+   /**
+    * @return number of completed rounds
+    */
+   public synchronized int getRounds() {
+      return roundEnds.size();
+   }
+
+   /**
+    * @param round round number, from 1
+    *
+    * @return index of the first action of the round
+    */
+   public synchronized int roundStart(int round) {
+      checkRound(round);
+      return round == 1 ? 0 : roundEnds.get(round - 2);
+   }
+
+   /**
+    * @param round round number, from 1
+    *
+    * @return index after the round's {@link TableAction.Type#DEAL_HOUSE}
+    */
+   public synchronized int roundEnd(int round) {
+      checkRound(round);
+      return roundEnds.get(round - 1);
+   }
+
+   /**
+    * @param out stream to write the log to (not closed)
+    *
+    * @throws IOException if the stream can't be written
+    */
+   public synchronized void writeTo(OutputStream out) throws IOException {
+      DataOutputStream data = new DataOutputStream(out);
+      data.writeInt(MAGIC);
+      data.writeInt(VERSION);
+      data.writeLong(seed);
+      data.writeInt(actions.size());
+      for (TableAction action : actions) {
+         data.writeByte(action.getType().ordinal());
+         data.writeUTF(action.getPlayerId() == null ? "" : action.getPlayerId());
+         if (action.getType() == TableAction.Type.ADD_PERSON) {
+            data.writeUTF(action.getPlayerName() == null ? "" : action.getPlayerName());
+         }
+         data.writeInt(action.getValue());
+      }
+      data.flush();
+   }
+
+   /**
+    * @param in stream positioned at a log written by {@link #writeTo(OutputStream)} (not closed)
+    *
+    * @return the log
+    *
+    * @throws IOException if the stream can't be read or doesn't hold a log
+    */
+   public static ActionLog readFrom(InputStream in) throws IOException {
+      DataInputStream data = new DataInputStream(in);
+      if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+         throw new IOException("Not an action log");
+      }
+      ActionLog log = new ActionLog(data.readLong());
+      TableAction.Type[] types = TableAction.Type.values();
+      int count = data.readInt();
+      for (int i = 0; i < count; i++) {
+         int type = data.readUnsignedByte();
+         if (type >= types.length) {
+            throw new IOException("Unknown action type " + type);
+         }
+         String playerId = data.readUTF();
+         String playerName = types[type] == TableAction.Type.ADD_PERSON ? data.readUTF() : null;
+         log.add(new TableAction(types[type], playerId.isEmpty() ? null : playerId, playerName, data.readInt()));
+      }
+      return log;
+   }
+
+   private void checkRound(int round) {
+      if (round < 1 || round > roundEnds.size()) {
+         throw new IllegalArgumentException("No round " + round + ", rounds=" + roundEnds.size());
+      }
+   }
+}
@@ -0,0 +1,38 @@
+package model.replay;
+
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import view.interfaces.BlackEngineCallback;
+
+/**
+ * Catches the house result of each round, which dealHouse doesn't return
+ */
+class HouseResultCallback implements BlackEngineCallback {
+   volatile int result;
+
+   @Override
+   public void nextCard(Player player, PokerCard card, BlackEngine engine) {
+   }
+
+   @Override
+   public void bustCard(Player player, PokerCard card, BlackEngine engine) {
+   }
+
+   @Override
+   public void result(Player player, int result, BlackEngine engine) {
+   }
+
+   @Override
+   public void nextHouseCard(PokerCard card, BlackEngine engine) {
+   }
+
+   @Override
+   public void houseBustCard(PokerCard card, BlackEngine engine) {
+   }
+
+   @Override
+   public void houseResult(int result, BlackEngine engine) {
+      this.result = result;
+   }
+}
@@ -0,0 +1,88 @@
+package model.replay;
+
+import model.BlackEngineImpl;
+import model.DelegatingBlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+
+import java.util.Deque;
+
+/**
+ * A table whose games can be reproduced: its engine shuffles only from the seed of an
+ * {@link ActionLog}, and every call that changes the game is appended to the log with its outcome.
+ * Replay the log with {@link ReplayEngine}.
+ * <p>
+ * Only changes made through this engine are recorded; a Player's points or bet changed directly
+ * on the Player object won't be, and hands must be dealt one at a time for the log order to be the
+ * dealing order.
+ */
+public class RecordingBlackEngine extends DelegatingBlackEngine {
+   private final ActionLog log;
+   private final HouseResultCallback houseResult = new HouseResultCallback();
+
+   /**
+    * @param seed seed for the table's decks
+    */
+   public RecordingBlackEngine(long seed) {
+      this(new ActionLog(seed));
+   }
+
+   private RecordingBlackEngine(ActionLog log) {
+      super(new BlackEngineImpl(log.newRandomSource()));
+      this.log = log;
+      getDelegate().addBlackEngineCallback(houseResult);
+   }
+
+   public ActionLog getLog() {
+      return log;
+   }
+
+   @Override
+   public void dealPerson(Player player, int delay) throws IllegalArgumentException {
+      super.dealPerson(player, delay);
+      log.add(new TableAction(TableAction.Type.DEAL_PERSON, player.getPersonId(), null, player.getResult()));
+   }
+
+   @Override
+   public void dealHouse(int delay) throws IllegalArgumentException {
+      super.dealHouse(delay);
+      log.add(new TableAction(TableAction.Type.DEAL_HOUSE, null, null, houseResult.result));
+   }
+
+   @Override
+   public void applyWinLoss(Player player, int houseResult) {
+      super.applyWinLoss(player, houseResult);
+      log.add(new TableAction(TableAction.Type.APPLY_WIN_LOSS, player.getPersonId(), null, houseResult));
+   }
+
+   @Override
+   public void addPerson(Player player) {
+      super.addPerson(player);
+      log.add(new TableAction(TableAction.Type.ADD_PERSON, player.getPersonId(), player.getPersonName(), player.getPoints()));
+   }
+
+   @Override
+   public boolean removePerson(Player player) {
+      boolean removed = super.removePerson(player);
+      if (removed) {
+         log.add(new TableAction(TableAction.Type.REMOVE_PERSON, player.getPersonId(), null, 0));
+      }
+      return removed;
+   }
+
+   @Override
+   public boolean placeBet(Player player, int bet) {
+      boolean placed = super.placeBet(player, bet);
+      if (placed) {
+         log.add(new TableAction(TableAction.Type.PLACE_BET, player.getPersonId(), null, bet));
+      }
+      return placed;
+   }
+
+   @Override
+   public Deque<PokerCard> getShuffledHalfDeck() {
+      Deque<PokerCard> deck = super.getShuffledHalfDeck();
+      log.add(new TableAction(TableAction.Type.SHUFFLED_HALF_DECK, null, null, 0));
+      return deck;
+   }
+}
@@ -0,0 +1,22 @@
+package model.replay;
+
+/**
+ * Thrown when a replayed action doesn't have the outcome recorded in the log
+ */
+public class ReplayDivergedException extends IllegalStateException {
+   private static final long serialVersionUID = 1L;
+
+   private final int index;
+
+   ReplayDivergedException(int index, TableAction action, int actual) {
+      super(String.format("Replay diverged at action %d (%s): got %d", index, action, actual));
+      this.index = index;
+   }
+
+   /**
+    * @return index of the action in the log
+    */
+   public int getIndex() {
+      return index;
+   }
+}
@@ -0,0 +1,141 @@
+package model.replay;
+
+import model.BlackEngineImpl;
+import model.SimplePerson;
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import view.interfaces.BlackEngineCallback;
+
+import java.util.List;
+
+/**
+ * Re-executes an {@link ActionLog} against a fresh engine seeded from the log, so every round is
+ * dealt exactly as it was. Cards are dealt with no delay, and callbacks are only attached while
+ * replaying the rounds asked for, so skipping to round 1,000,000 takes a fraction of a second.
+ * <p>
+ * Every deal is checked against the result in the log; a mismatch (e.g. a log recorded by a
+ * different version of the engine) throws {@link ReplayDivergedException}.
+ * <p>
+ * Replay only goes forward, use a new ReplayEngine to go back to an earlier round.
+ */
+public class ReplayEngine {
+   private final ActionLog log;
+   private final List<TableAction> actions;
+   private final BlackEngine engine;
+   private final HouseResultCallback houseResult = new HouseResultCallback();
+   private int next = 0;
+   private int round = 0;
+
+   public ReplayEngine(ActionLog log) {
+      this.log = log;
+      this.actions = log.getActions();
+      this.engine = new BlackEngineImpl(log.newRandomSource());
+      engine.addBlackEngineCallback(houseResult);
+   }
+
+   /**
+    * @return the engine being replayed into, holding the players as of the last replayed action
+    */
+   public BlackEngine getEngine() {
+      return engine;
+   }
+
+   /**
+    * @return number of rounds replayed so far
+    */
+   public int getRound() {
+      return round;
+   }
+
+   /**
+    * Replays silently up to and including {@code round}
+    *
+    * @param round round number, from 1
+    */
+   public void replayTo(int round) {
+      replay(log.roundEnd(round));
+   }
+
+   /**
+    * Replays everything in the log (including any unfinished round at the end) silently
+    */
+   public void replayAll() {
+      replay(actions.size());
+   }
+
+   /**
+    * Skips silently to the start of {@code round}, then replays that round with {@code callbacks}
+    * attached, e.g. to show a disputed round in the GUI or log it
+    *
+    * @param round     round number, from 1, not yet replayed
+    * @param callbacks callbacks to see the round, called in order
+    */
+   public void replayRound(int round, BlackEngineCallback... callbacks) {
+      int start = log.roundStart(round);
+      if (next > start) {
+         throw new IllegalStateException("Round " + round + " has already been replayed");
+      }
+      replay(start);
+      for (BlackEngineCallback callback : callbacks) {
+         engine.addBlackEngineCallback(callback);
+      }
+      try {
+         replay(log.roundEnd(round));
+      } finally {
+         for (BlackEngineCallback callback : callbacks) {
+            engine.removeBlackEngineCallback(callback);
+         }
+      }
+   }
+
+   private void replay(int end) {
+      while (next < end) {
+         TableAction action = actions.get(next);
+         Player player = action.getPlayerId() == null ? null : engine.getPerson(action.getPlayerId());
+         switch (action.getType()) {
+            case ADD_PERSON:
+               engine.addPerson(new SimplePerson(action.getPlayerId(), action.getPlayerName(), action.getValue()));
+               break;
+            case REMOVE_PERSON:
+               engine.removePerson(requirePlayer(player));
+               break;
+            case PLACE_BET:
+               if (!engine.placeBet(requirePlayer(player), action.getValue())) {
+                  throw new ReplayDivergedException(next, action, 0);
+               }
+               break;
+            case DEAL_PERSON:
+               engine.dealPerson(requirePlayer(player), 0);
+               check(action, player.getResult());
+               break;
+            case DEAL_HOUSE:
+               engine.dealHouse(0);
+               check(action, houseResult.result);
+               round++;
+               break;
+            case APPLY_WIN_LOSS:
+               engine.applyWinLoss(requirePlayer(player), action.getValue());
+               break;
+            case SHUFFLED_HALF_DECK:
+               engine.getShuffledHalfDeck();
+               break;
+            default:
+               throw new IllegalStateException("Unhandled action " + action);
+         }
+         next++;
+      }
+   }
+
+   private Player requirePlayer(Player player) {
+      if (player == null) {
+         throw new ReplayDivergedException(next, actions.get(next), -1);
+      }
+      return player;
+   }
+
+   private void check(TableAction action, int actual) {
+      if (action.getValue() != actual) {
+         throw new ReplayDivergedException(next, action, actual);
+      }
+   }
+}
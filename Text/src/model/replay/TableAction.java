@@ -0,0 +1,78 @@
+package model.replay;
+
+/**
+ * One entry of an {@link ActionLog}: something done to the engine, with the outcome seen at the
+ * time so a replay can check it gets the same.
+ */
+public final class TableAction {
+   public enum Type {
+      /**
+       * player added, value is the player's points
+       */
+      ADD_PERSON,
+      REMOVE_PERSON,
+      /**
+       * bet placed (successfully), value is the bet
+       */
+      PLACE_BET,
+      /**
+       * hand dealt to the player, value is the result
+       */
+      DEAL_PERSON,
+      /**
+       * house dealt and round settled, value is the house result
+       */
+      DEAL_HOUSE,
+      /**
+       * {@link model.interfaces.BlackEngine#applyWinLoss} called from outside the engine, value is
+       * the house result passed in
+       */
+      APPLY_WIN_LOSS,
+      /**
+       * {@link model.interfaces.BlackEngine#getShuffledHalfDeck()} called (which draws from the
+       * engine's random source)
+       */
+      SHUFFLED_HALF_DECK
+   }
+
+   private final Type type;
+   private final String playerId;
+   private final String playerName;
+   private final int value;
+
+   TableAction(Type type, String playerId, String playerName, int value) {
+      this.type = type;
+      this.playerId = playerId;
+      this.playerName = playerName;
+      this.value = value;
+   }
+
+   public Type getType() {
+      return type;
+   }
+
+   /**
+    * @return player id, null for actions not involving a player
+    */
+   public String getPlayerId() {
+      return playerId;
+   }
+
+   /**
+    * @return player name for {@link Type#ADD_PERSON}, else null
+    */
+   public String getPlayerName() {
+      return playerName;
+   }
+
+   public int getValue() {
+      return value;
+   }
+
+   @Override
+   public String toString() {
+      return playerId == null
+            ? String.format("%s %d", type, value)
+            : String.format("%s %s %d", type, playerId, value);
+   }
+}
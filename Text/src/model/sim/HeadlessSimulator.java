@@ -0,0 +1,116 @@
+package model.sim;
+
+import model.Deck;
+import model.PackedCards;
+import model.interfaces.BlackEngine;
+
+/**
+ * Plays complete rounds (every player, then the house) without any of the
+ * {@link model.BlackEngineImpl} machinery: no delays, no callbacks and no
+ * {@link model.interfaces.Player} objects. Cards are dealt from a regular {@link Deck} as
+ * {@link PackedCards} indexes and scored from its lookup table, so a round allocates nothing.
+ * <p>
+ * Instances are not thread-safe; use one simulator per thread.
+ */
+public class HeadlessSimulator {
+   private final Deck deck;
+   private final int playersPerRound;
+   private final int[] playerResults;
+
+   /**
+    * @param playersPerRound number of players dealt before the house each round
+    */
+   public HeadlessSimulator(int playersPerRound) {
+      this(playersPerRound, new Deck());
+   }
+
+   /**
+    * @param playersPerRound number of players dealt before the house each round
+    * @param deck            deck to deal from (shuffled before use)
+    */
+   public HeadlessSimulator(int playersPerRound, Deck deck) {
+      if (playersPerRound < 1) {
+         throw new IllegalArgumentException("At least one player is required");
+      }
+      this.playersPerRound = playersPerRound;
+      this.playerResults = new int[playersPerRound];
+      this.deck = deck;
+      this.deck.shuffle();
+   }
+
+   /**
+    * Deals a single hand using the same rules as {@code BlackEngineImpl.getScore}: cards are
+    * drawn until the total reaches {@link BlackEngine#BUST_LEVEL} exactly, or the next card
+    * would exceed it, in which case the pre-bust total is kept.
+    *
+    * @param deck deck to deal from
+    *
+    * @return final score of the hand
+    */
+   public static int dealHand(Deck deck) {
+      int score = 0;
+      while (true) {
+         int cardScore = PackedCards.score(deck.dealCardIndex());
+         if (score + cardScore > BlackEngine.BUST_LEVEL) {
+            return score;
+         }
+         score += cardScore;
+         if (score == BlackEngine.BUST_LEVEL) {
+            return score;
+         }
+      }
+   }
+
+   /**
+    * @param rounds number of rounds to play
+    *
+    * @return aggregated results, including elapsed time
+    */
+   public SimulationResult run(long rounds) {
+      SimulationResult result = new SimulationResult(playersPerRound);
+      long start = System.nanoTime();
+      play(rounds, result);
+      result.elapsedNanos = System.nanoTime() - start;
+      return result;
+   }
+
+   /**
+    * Plays {@code rounds} rounds, adding the outcomes to {@code result}
+    */
+   void play(long rounds, SimulationResult result) {
+      final int[] results = this.playerResults;
+      final long[] playerScores = result.playerScores;
+      final long[] houseScores = result.houseScores;
+      long wins = 0;
+      long losses = 0;
+      long draws = 0;
+
+      for (long round = 0; round < rounds; round++) {
+         for (int p = 0; p < results.length; p++) {
+            results[p] = dealHand(deck);
+         }
+         int houseResult = dealHand(deck);
+         houseScores[houseResult]++;
+
+         // same comparison as BlackEngineImpl.applyWinLoss
+         for (int p = 0; p < results.length; p++) {
+            int playerResult = results[p];
+            playerScores[playerResult]++;
+            if (playerResult > houseResult) {
+               wins++;
+            }
+            else if (playerResult < houseResult) {
+               losses++;
+            }
+            else {
+               draws++;
+            }
+         }
+      }
+
+      result.rounds += rounds;
+      result.wins += wins;
+      result.losses += losses;
+      result.draws += draws;
+   }
+}
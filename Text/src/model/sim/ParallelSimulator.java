@@ -0,0 +1,111 @@
+package model.sim;
+
+import model.Deck;
+import util.random.RandomSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Splits a batch of rounds into fixed size chunks and plays them as fork/join tasks.
+ * <p>
+ * Every chunk gets its own {@link Deck} and {@link RandomSource} seeded from the batch seed and the
+ * chunk number, so nothing is shared between workers (in particular not the synchronized
+ * {@link util.Randomizer} singleton) and the merged result for a given seed, round count and
+ * chunk size is identical no matter how many threads run it.
+ */
+public class ParallelSimulator {
+   public static final long DEFAULT_CHUNK_ROUNDS = 1 << 16;
+
+   private final ForkJoinPool pool;
+   private final int playersPerRound;
+   private final long seed;
+   private final long chunkRounds;
+
+   /**
+    * @param playersPerRound number of players dealt before the house each round
+    * @param seed            batch seed
+    */
+   public ParallelSimulator(int playersPerRound, long seed) {
+      this(playersPerRound, seed, DEFAULT_CHUNK_ROUNDS, ForkJoinPool.commonPool());
+   }
+
+   /**
+    * @param playersPerRound number of players dealt before the house each round
+    * @param seed            batch seed
+    * @param chunkRounds     rounds played by a single (leaf) task
+    * @param pool            pool to run the tasks in
+    */
+   public ParallelSimulator(int playersPerRound, long seed, long chunkRounds, ForkJoinPool pool) {
+      if (playersPerRound < 1) {
+         throw new IllegalArgumentException("At least one player is required");
+      }
+      if (chunkRounds < 1) {
+         throw new IllegalArgumentException("chunkRounds must be positive");
+      }
+      this.playersPerRound = playersPerRound;
+      this.seed = seed;
+      this.chunkRounds = chunkRounds;
+      this.pool = pool;
+   }
+
+   /**
+    * Seed for a given chunk (SplitMix64 finaliser over the batch seed and chunk number)
+    */
+   static long chunkSeed(long seed, long chunk) {
+      long z = seed + (chunk + 1) * 0x9E3779B97F4A7C15L;
+      z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+      z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+      return z ^ (z >>> 31);
+   }
+
+   public int getParallelism() {
+      return pool.getParallelism();
+   }
+
+   /**
+    * @param rounds number of rounds to play
+    *
+    * @return merged results of all chunks, elapsed time is wall clock time for the batch
+    */
+   public SimulationResult run(long rounds) {
+      long chunks = (rounds + chunkRounds - 1) / chunkRounds;
+      long start = System.nanoTime();
+      SimulationResult result = chunks == 0
+            ? new SimulationResult(playersPerRound)
+            : pool.invoke(new RoundsTask(0, chunks, rounds));
+      result.elapsedNanos = System.nanoTime() - start;
+      return result;
+   }
+
+   @SuppressWarnings("serial")
+   private class RoundsTask extends RecursiveTask<SimulationResult> {
+      private final long fromChunk;
+      private final long toChunk;
+      private final long totalRounds;
+
+      RoundsTask(long fromChunk, long toChunk, long totalRounds) {
+         this.fromChunk = fromChunk;
+         this.toChunk = toChunk;
+         this.totalRounds = totalRounds;
+      }
+
+      @Override
+      protected SimulationResult compute() {
+         if (toChunk - fromChunk == 1) {
+            long rounds = Math.min(chunkRounds, totalRounds - fromChunk * chunkRounds);
+            Deck deck = new Deck(RandomSource.splittable(chunkSeed(seed, fromChunk)));
+            SimulationResult result = new SimulationResult(playersPerRound);
+            new HeadlessSimulator(playersPerRound, deck).play(rounds, result);
+            return result;
+         }
+
+         long middle = (fromChunk + toChunk) >>> 1;
+         RoundsTask left = new RoundsTask(fromChunk, middle, totalRounds);
+         left.fork();
+         SimulationResult result = new RoundsTask(middle, toChunk, totalRounds).compute();
+         result.merge(left.join());
+         return result;
+      }
+   }
+}
@@ -0,0 +1,124 @@
+package model.sim;
+
+import model.interfaces.BlackEngine;
+
+/**
+ * Aggregated outcome of a batch of headless rounds, as produced by {@link HeadlessSimulator}.
+ * <p>
+ * All counts assume every player bets a single unit, so {@link #getHouseEdge()} is expressed
+ * as the house's expected gain per unit bet.
+ */
+public class SimulationResult {
+   final int playersPerRound;
+   // index 0..BUST_LEVEL holds the number of hands finishing on that score
+   final long[] playerScores = new long[BlackEngine.BUST_LEVEL + 1];
+   final long[] houseScores = new long[BlackEngine.BUST_LEVEL + 1];
+   long rounds;
+   long wins;
+   long losses;
+   long draws;
+   long elapsedNanos;
+
+   SimulationResult(int playersPerRound) {
+      this.playersPerRound = playersPerRound;
+   }
+
+   /**
+    * Adds the counts of {@code other} into this result (elapsed time is left untouched)
+    *
+    * @param other result of another batch with the same number of players per round
+    */
+   void merge(SimulationResult other) {
+      rounds += other.rounds;
+      wins += other.wins;
+      losses += other.losses;
+      draws += other.draws;
+      for (int score = 0; score < playerScores.length; score++) {
+         playerScores[score] += other.playerScores[score];
+         houseScores[score] += other.houseScores[score];
+      }
+   }
+
+   public int getPlayersPerRound() {
+      return playersPerRound;
+   }
+
+   public long getRounds() {
+      return rounds;
+   }
+
+   /**
+    * @return number of player hands settled (rounds * players per round)
+    */
+   public long getHands() {
+      return wins + losses + draws;
+   }
+
+   public long getWins() {
+      return wins;
+   }
+
+   public long getLosses() {
+      return losses;
+   }
+
+   public long getDraws() {
+      return draws;
+   }
+
+   /**
+    * @param score final score between 0 and {@link BlackEngine#BUST_LEVEL}
+    *
+    * @return number of player hands that finished on {@code score}
+    */
+   public long getPlayerScoreCount(int score) {
+      return playerScores[score];
+   }
+
+   /**
+    * @param score final score between 0 and {@link BlackEngine#BUST_LEVEL}
+    *
+    * @return number of house hands that finished on {@code score}
+    */
+   public long getHouseScoreCount(int score) {
+      return houseScores[score];
+   }
+
+   public long getElapsedNanos() {
+      return elapsedNanos;
+   }
+
+   public double getRoundsPerSecond() {
+      return elapsedNanos == 0 ? 0 : rounds * 1e9 / elapsedNanos;
+   }
+
+   /**
+    * @return the house's expected gain per unit bet (positive favours the house)
+    */
+   public double getHouseEdge() {
+      long hands = getHands();
+      return hands == 0 ? 0 : (double) (losses - wins) / hands;
+   }
+
+   @Override
+   public String toString() {
+      long hands = getHands();
+      StringBuilder s = new StringBuilder();
+      s.append(String.format("Rounds: %,d (%d player(s) per round) in %.3f s, %,.0f rounds/s%n",
+            rounds, playersPerRound, elapsedNanos / 1e9, getRoundsPerSecond()));
+      s.append(String.format("Player win %.4f%%, loss %.4f%%, draw %.4f%%, house edge %.4f%%%n",
+            percent(wins, hands), percent(losses, hands), percent(draws, hands), getHouseEdge() * 100));
+      s.append(String.format("%5s %10s %10s%n", "Score", "Player %", "House %"));
+      for (int score = 0; score <= BlackEngine.BUST_LEVEL; score++) {
+         if (playerScores[score] != 0 || houseScores[score] != 0) {
+            s.append(String.format("%5d %10.4f %10.4f%n", score,
+                  percent(playerScores[score], hands), percent(houseScores[score], rounds)));
+         }
+      }
+      return s.toString();
+   }
+
+   private static double percent(long count, long total) {
+      return total == 0 ? 0 : count * 100.0 / total;
+   }
+}
@@ -0,0 +1,149 @@
+package util.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Handler that hands records to another handler (e.g. a rotating {@link java.util.logging.FileHandler})
+ * on a background thread, so formatting and I/O never happen on the logging thread.
+ * <p>
+ * The writer takes up to {@code maxBatch} records at a time and flushes the target once per batch
+ * rather than once per record. If the queue is full the record is dropped and counted (logging
+ * must never stall a table); see {@link #getDropped()}.
+ * <p>
+ * NOTE: formatters that print the source class/method read them from the record, so log with
+ * {@link java.util.logging.Logger#logp} (or set them) rather than relying on them being inferred,
+ * which would happen on the writer thread.
+ */
+public class AsyncBatchingHandler extends Handler {
+   public static final int DEFAULT_CAPACITY = 8192;
+   public static final int DEFAULT_MAX_BATCH = 256;
+
+   private final Handler target;
+   private final BlockingQueue<LogRecord> queue;
+   private final int maxBatch;
+   private final Thread writer;
+   private final AtomicLong queued = new AtomicLong();
+   private final AtomicLong dropped = new AtomicLong();
+   private volatile long written;
+   private volatile boolean closed = false;
+
+   public AsyncBatchingHandler(Handler target) {
+      this(target, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH);
+   }
+
+   /**
+    * @param target   handler to write to, owned (and closed) by this handler
+    * @param capacity maximum number of records waiting to be written
+    * @param maxBatch maximum records written per target flush
+    */
+   public AsyncBatchingHandler(Handler target, int capacity, int maxBatch) {
+      if (capacity < 1 || maxBatch < 1) {
+         throw new IllegalArgumentException("capacity and maxBatch must be positive");
+      }
+      this.target = target;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+      this.maxBatch = maxBatch;
+      this.writer = new Thread(new Runnable() {
+         @Override
+         public void run() {
+            write();
+         }
+      }, "AsyncBatchingHandler-writer");
+      writer.setDaemon(true);
+      writer.start();
+   }
+
+   @Override
+   public void publish(LogRecord record) {
+      if (closed || !isLoggable(record)) {
+         return;
+      }
+      if (queue.offer(record)) {
+         queued.incrementAndGet();
+      }
+      else {
+         dropped.incrementAndGet();
+      }
+   }
+
+   /**
+    * Waits until every record published so far has been written, then flushes the target
+    */
+   @Override
+   public void flush() {
+      long target = queued.get();
+      while (written < target && writer.isAlive()) {
+         LockSupport.parkNanos(100_000);
+      }
+      this.target.flush();
+   }
+
+   /**
+    * Writes everything already queued, stops the writer and closes the target
+    */
+   @Override
+   public void close() {
+      if (closed) {
+         return;
+      }
+      closed = true;
+      try {
+         writer.join();
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+      target.close();
+   }
+
+   /**
+    * @return number of records discarded because the queue was full
+    */
+   public long getDropped() {
+      return dropped.get();
+   }
+
+   /**
+    * @return number of records waiting to be written
+    */
+   public int getBacklog() {
+      return queue.size();
+   }
+
+   private void write() {
+      List<LogRecord> batch = new ArrayList<>(maxBatch);
+      while (true) {
+         try {
+            LogRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+            if (first == null) {
+               if (closed) {
+                  return;
+               }
+               continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatch - 1);
+            for (int i = 0; i < batch.size(); i++) {
+               target.publish(batch.get(i));
+            }
+            target.flush();
+            written += batch.size();
+         } catch (InterruptedException e) {
+            return;
+         } catch (RuntimeException e) {
+            reportError("Could not write log records", e, ErrorManager.WRITE_FAILURE);
+            written += batch.size();
+         } finally {
+            batch.clear();
+         }
+      }
+   }
+}
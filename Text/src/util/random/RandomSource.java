@@ -0,0 +1,69 @@
+package util.random;
+
+import util.Randomizer;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Minimal source of random numbers used by {@link model.Deck#shuffle()}.
+ * <p>
+ * Pick the implementation per engine: {@link #secure()} for live play, a seeded
+ * {@link #splittable(long)} or {@link #xoshiro(long)} source for simulations and repeatable
+ * tests, or {@link #threadLocal()} when many threads shuffle at once.
+ */
+public interface RandomSource {
+   /**
+    * @param bound upper bound (exclusive), must be positive
+    *
+    * @return a uniformly distributed int between 0 (inclusive) and {@code bound} (exclusive)
+    */
+   int nextInt(int bound);
+
+   /**
+    * @return the process wide {@link Randomizer} (SecureRandom), the default for live play
+    */
+   static RandomSource secure() {
+      return SecureRandomSource.INSTANCE;
+   }
+
+   /**
+    * @return a source drawing from {@link java.util.concurrent.ThreadLocalRandom}, safe to share between threads
+    */
+   static RandomSource threadLocal() {
+      return ThreadLocalRandomSource.INSTANCE;
+   }
+
+   /**
+    * @param seed seed
+    *
+    * @return a new, unsynchronized {@link java.util.SplittableRandom} based source
+    */
+   static RandomSource splittable(long seed) {
+      return new SplittableRandomSource(seed);
+   }
+
+   /**
+    * @param seed seed
+    *
+    * @return a new, unsynchronized xoshiro256** source
+    */
+   static RandomSource xoshiro(long seed) {
+      return new XoshiroRandomSource(seed);
+   }
+
+   /**
+    * @param random an existing {@link Random}
+    *
+    * @return a source delegating to {@code random}
+    */
+   static RandomSource of(Random random) {
+      Objects.requireNonNull(random);
+      return new RandomSource() {
+         @Override
+         public int nextInt(int bound) {
+            return random.nextInt(bound);
+         }
+      };
+   }
+}
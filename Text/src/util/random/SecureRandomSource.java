@@ -0,0 +1,26 @@
+package util.random;
+
+import util.Randomizer;
+
+/**
+ * {@link RandomSource} backed by the shared {@link Randomizer} (we need to use secure random
+ * numbers for gambling). Calls are serialized by SecureRandom, so avoid it for simulations.
+ */
+final class SecureRandomSource implements RandomSource {
+   static final SecureRandomSource INSTANCE = new SecureRandomSource();
+
+   private final Randomizer randomizer = Randomizer.getRandomizer();
+
+   private SecureRandomSource() {
+   }
+
+   @Override
+   public int nextInt(int bound) {
+      return randomizer.nextInt(bound);
+   }
+
+   @Override
+   public String toString() {
+      return "SecureRandom";
+   }
+}
@@ -0,0 +1,36 @@
+package util.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seedable {@link RandomSource} backed by {@link SplittableRandom}. Not thread-safe; use
+ * {@link #split()} to hand independent sources to other threads.
+ */
+public final class SplittableRandomSource implements RandomSource {
+   private final SplittableRandom random;
+
+   public SplittableRandomSource(long seed) {
+      this(new SplittableRandom(seed));
+   }
+
+   private SplittableRandomSource(SplittableRandom random) {
+      this.random = random;
+   }
+
+   /**
+    * @return a new source whose values are independent of this one
+    */
+   public SplittableRandomSource split() {
+      return new SplittableRandomSource(random.split());
+   }
+
+   @Override
+   public int nextInt(int bound) {
+      return random.nextInt(bound);
+   }
+
+   @Override
+   public String toString() {
+      return "SplittableRandom";
+   }
+}
@@ -0,0 +1,24 @@
+package util.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RandomSource} that draws from the calling thread's {@link ThreadLocalRandom}, so a single
+ * instance can be shared by any number of threads without contention. Cannot be seeded.
+ */
+final class ThreadLocalRandomSource implements RandomSource {
+   static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+   private ThreadLocalRandomSource() {
+   }
+
+   @Override
+   public int nextInt(int bound) {
+      return ThreadLocalRandom.current().nextInt(bound);
+   }
+
+   @Override
+   public String toString() {
+      return "ThreadLocalRandom";
+   }
+}
@@ -0,0 +1,67 @@
+package util.random;
+
+/**
+ * Seedable xoshiro256** generator (Blackman &amp; Vigna). Not thread-safe.
+ *
+ * @see <a href="https://prng.di.unimi.it/">xoshiro / xoroshiro generators</a>
+ */
+public final class XoshiroRandomSource implements RandomSource {
+   private long s0;
+   private long s1;
+   private long s2;
+   private long s3;
+
+   /**
+    * @param seed expanded into the 256 bit state with SplitMix64, as recommended by the authors
+    */
+   public XoshiroRandomSource(long seed) {
+      long x = seed;
+      s0 = splitMix64(x += 0x9E3779B97F4A7C15L);
+      s1 = splitMix64(x += 0x9E3779B97F4A7C15L);
+      s2 = splitMix64(x += 0x9E3779B97F4A7C15L);
+      s3 = splitMix64(x + 0x9E3779B97F4A7C15L);
+   }
+
+   private static long splitMix64(long z) {
+      z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+      z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+      return z ^ (z >>> 31);
+   }
+
+   public long nextLong() {
+      final long result = Long.rotateLeft(s1 * 5, 7) * 9;
+      final long t = s1 << 17;
+      s2 ^= s0;
+      s3 ^= s1;
+      s1 ^= s2;
+      s0 ^= s3;
+      s2 ^= t;
+      s3 = Long.rotateLeft(s3, 45);
+      return result;
+   }
+
+   /**
+    * Unbiased bounded int using Lemire's multiply-and-shift with rejection
+    */
+   @Override
+   public int nextInt(int bound) {
+      if (bound <= 0) {
+         throw new IllegalArgumentException("bound must be positive");
+      }
+      long m = (nextLong() >>> 32) * bound;
+      long low = m & 0xFFFFFFFFL;
+      if (low < bound) {
+         long threshold = (0x100000000L - bound) % bound;
+         while (low < threshold) {
+            m = (nextLong() >>> 32) * bound;
+            low = m & 0xFFFFFFFFL;
+         }
+      }
+      return (int) (m >>> 32);
+   }
+
+   @Override
+   public String toString() {
+      return "xoshiro256**";
+   }
+}
@@ -0,0 +1,307 @@
+package view;
+
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import view.interfaces.BlackEngineCallback;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Decouples the dealing thread from a slow BlackEngineCallback (the GUI, or logging): events are
+ * copied into a pre-allocated ring buffer and delivered to the wrapped callback, in order, by this
+ * wrapper's own consumer thread, up to {@code maxBatch} events per hand-off.
+ * <p>
+ * When the buffer is full the dealing thread either waits for space ({@link Backpressure#BLOCK}) or
+ * the event is discarded and counted ({@link Backpressure#DROP}, only suitable for observers that
+ * can tolerate gaps, such as metrics).
+ * <p>
+ * NOTE: events are delivered after the fact, so a callback that reads the engine (e.g.
+ * {@link BlackEngineCallback#houseResult(int, BlackEngine)} calling
+ * {@link BlackEngine#getAllPersons()}) sees its state at delivery time, not at the time of the event.
+ *
+ * @see view.interfaces.BlackEngineCallback
+ */
+public class BatchingBlackEngineCallback implements BlackEngineCallback, AutoCloseable {
+   public static final int DEFAULT_CAPACITY = 1024;
+   public static final int DEFAULT_MAX_BATCH = 64;
+   private static final Logger logger = Logger.getLogger(BatchingBlackEngineCallback.class.getName());
+
+   private static final int NEXT_CARD = 0;
+   private static final int BUST_CARD = 1;
+   private static final int RESULT = 2;
+   private static final int NEXT_HOUSE_CARD = 3;
+   private static final int HOUSE_BUST_CARD = 4;
+   private static final int HOUSE_RESULT = 5;
+
+   private final BlackEngineCallback delegate;
+   private final Backpressure backpressure;
+   private final int maxBatch;
+   private final Event[] ring;
+   private final int mask;
+   private final ReentrantLock lock = new ReentrantLock();
+   private final Condition notEmpty = lock.newCondition();
+   // signalled whenever the consumer frees slots, used for both backpressure and flush()
+   private final Condition consumed = lock.newCondition();
+   private final Thread consumer;
+   // guarded by lock
+   private long head;
+   private long tail;
+   private long dropped;
+   private boolean running = true;
+
+   /**
+    * What to do when an event is published while the ring buffer is full
+    */
+   public enum Backpressure {
+      BLOCK, DROP
+   }
+
+   public BatchingBlackEngineCallback(BlackEngineCallback delegate) {
+      this(delegate, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH, Backpressure.BLOCK);
+   }
+
+   /**
+    * @param delegate     callback to deliver events to
+    * @param capacity     ring buffer size, rounded up to a power of two
+    * @param maxBatch     maximum number of events delivered per hand-off from the dealing thread
+    * @param backpressure behaviour when the ring buffer is full
+    */
+   public BatchingBlackEngineCallback(BlackEngineCallback delegate, int capacity, int maxBatch, Backpressure backpressure) {
+      if (capacity < 1 || maxBatch < 1) {
+         throw new IllegalArgumentException("capacity and maxBatch must be positive");
+      }
+      this.delegate = delegate;
+      this.backpressure = backpressure;
+      this.maxBatch = maxBatch;
+      int size = Integer.highestOneBit(capacity - 1) << 1;
+      this.ring = new Event[Math.max(1, size)];
+      this.mask = ring.length - 1;
+      for (int i = 0; i < ring.length; i++) {
+         ring[i] = new Event();
+      }
+
+      consumer = new Thread(new Runnable() {
+         @Override
+         public void run() {
+            consume();
+         }
+      }, "BlackEngineCallback-" + delegate.getClass().getSimpleName());
+      consumer.setDaemon(true);
+      consumer.start();
+   }
+
+   //@formatter:off
+   @Override public void nextCard(Player player, PokerCard card, BlackEngine engine)  { publish(NEXT_CARD, player, card, 0, engine);       }
+   @Override public void bustCard(Player player, PokerCard card, BlackEngine engine)  { publish(BUST_CARD, player, card, 0, engine);       }
+   @Override public void result(Player player, int result, BlackEngine engine)       { publish(RESULT, player, null, result, engine);     }
+   @Override public void nextHouseCard(PokerCard card, BlackEngine engine)            { publish(NEXT_HOUSE_CARD, null, card, 0, engine);  }
+   @Override public void houseBustCard(PokerCard card, BlackEngine engine)            { publish(HOUSE_BUST_CARD, null, card, 0, engine);  }
+   @Override public void houseResult(int result, BlackEngine engine)                  { publish(HOUSE_RESULT, null, null, result, engine); }
+   //@formatter:on
+
+   private void publish(int type, Player player, PokerCard card, int result, BlackEngine engine) {
+      lock.lock();
+      try {
+         if (!running) {
+            throw new IllegalStateException("BatchingBlackEngineCallback has been closed");
+         }
+         while (tail - head == ring.length) {
+            if (backpressure == Backpressure.DROP) {
+               dropped++;
+               return;
+            }
+            consumed.awaitUninterruptibly();
+         }
+         ring[(int) (tail & mask)].set(type, player, card, result, engine);
+         if (tail++ == head) {
+            notEmpty.signal();
+         }
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   private void consume() {
+      while (true) {
+         long from;
+         int count;
+         lock.lock();
+         try {
+            while (head == tail && running) {
+               notEmpty.awaitUninterruptibly();
+            }
+            if (head == tail) {
+               return;
+            }
+            from = head;
+            count = (int) Math.min(tail - head, maxBatch);
+         } finally {
+            lock.unlock();
+         }
+
+         // slots [from, from + count) can't be overwritten until head moves past them
+         for (int i = 0; i < count; i++) {
+            Event event = ring[(int) ((from + i) & mask)];
+            deliver(event);
+            event.clear();
+         }
+
+         lock.lock();
+         try {
+            head = from + count;
+            consumed.signalAll();
+         } finally {
+            lock.unlock();
+         }
+      }
+   }
+
+   private void deliver(Event event) {
+      try {
+         switch (event.type) {
+            case NEXT_CARD:
+               delegate.nextCard(event.player, event.card, event.engine);
+               break;
+            case BUST_CARD:
+               delegate.bustCard(event.player, event.card, event.engine);
+               break;
+            case RESULT:
+               delegate.result(event.player, event.result, event.engine);
+               break;
+            case NEXT_HOUSE_CARD:
+               delegate.nextHouseCard(event.card, event.engine);
+               break;
+            case HOUSE_BUST_CARD:
+               delegate.houseBustCard(event.card, event.engine);
+               break;
+            case HOUSE_RESULT:
+               delegate.houseResult(event.result, event.engine);
+               break;
+            default:
+               break;
+         }
+      } catch (RuntimeException e) {
+         // one misbehaving event must not stop delivery of the rest
+         logger.log(Level.WARNING, "Callback threw while handling event", e);
+      }
+   }
+
+   /**
+    * Waits until every event published before this call has been delivered
+    *
+    * @param timeout maximum time to wait
+    * @param unit    unit of timeout
+    *
+    * @return true if all events were delivered in time
+    */
+   public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+      long remaining = unit.toNanos(timeout);
+      lock.lock();
+      try {
+         long target = tail;
+         while (head < target) {
+            if (remaining <= 0) {
+               return false;
+            }
+            remaining = consumed.awaitNanos(remaining);
+         }
+         return true;
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   /**
+    * @return number of events published but not yet delivered
+    */
+   public int getBacklog() {
+      lock.lock();
+      try {
+         return (int) (tail - head);
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   /**
+    * @return number of events discarded because the buffer was full (only with {@link Backpressure#DROP})
+    */
+   public long getDropped() {
+      lock.lock();
+      try {
+         return dropped;
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   public BlackEngineCallback getDelegate() {
+      return delegate;
+   }
+
+   /**
+    * Delivers any remaining events, then stops the consumer thread. If interrupted while waiting,
+    * returns with the interrupt flag set and the consumer finishes delivering in the background.
+    */
+   @Override
+   public void close() {
+      stop();
+      try {
+         consumer.join();
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   /**
+    * Like {@link #close()}, but waits at most {@code timeout} for the remaining events to be delivered
+    *
+    * @param timeout maximum time to wait
+    * @param unit    unit of timeout
+    *
+    * @return true if the consumer thread has finished
+    */
+   public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      stop();
+      unit.timedJoin(consumer, timeout);
+      return !consumer.isAlive();
+   }
+
+   private void stop() {
+      lock.lock();
+      try {
+         running = false;
+         notEmpty.signal();
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   /**
+    * A ring buffer slot, reused for every event that passes through it
+    */
+   private static final class Event {
+      int type;
+      Player player;
+      PokerCard card;
+      int result;
+      BlackEngine engine;
+
+      void set(int type, Player player, PokerCard card, int result, BlackEngine engine) {
+         this.type = type;
+         this.player = player;
+         this.card = card;
+         this.result = result;
+         this.engine = engine;
+      }
+
+      void clear() {
+         set(-1, null, null, 0, null);
+      }
+   }
+}
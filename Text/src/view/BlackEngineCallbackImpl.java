@@ -42,17 +42,21 @@ public class BlackEngineCallbackImpl implements BlackEngineCallback {
    public void nextCard(Player player, PokerCard card, BlackEngine engine) {
       // intermediate results logged at Level.FINE
       // logger.log(Level.FINE, "Intermediate data to log .. String.format() is good here!");
-      logger.log(Level.FINE, String.format("Card Dealt to %s .. %s", player.getPersonName(),
-            card.toString()));
+      if (logger.isLoggable(Level.FINE)) {
+         logger.log(Level.FINE, String.format("Card Dealt to %s .. %s", player.getPersonName(),
+               card.toString()));
+      }
    }
 
    @Override
    public void result(Player player, int result, BlackEngine engine) {
       // final results logged at Level.INFO
       // logger.log(Level.INFO, "Result data to log .. String.format() is good here!");
-      logger.log(Level.INFO, String.format("%s, final result=%d",
-            player.getPersonName(),
-            result));
+      if (logger.isLoggable(Level.INFO)) {
+         logger.log(Level.INFO, String.format("%s, final result=%d",
+               player.getPersonName(),
+               result));
+      }
    }
 
    /**
@@ -76,8 +80,10 @@ public class BlackEngineCallbackImpl implements BlackEngineCallback {
     */
    @Override
    public void bustCard(Player player, PokerCard card, BlackEngine engine) {
-      logger.log(Level.FINE, String.format("Card Dealt to %s .. %s ... YOU BUSTED!", player.getPersonName(),
-            card.toString()));
+      if (logger.isLoggable(Level.FINE)) {
+         logger.log(Level.FINE, String.format("Card Dealt to %s .. %s ... YOU BUSTED!", player.getPersonName(),
+               card.toString()));
+      }
    }
 
    /**
@@ -94,8 +100,10 @@ public class BlackEngineCallbackImpl implements BlackEngineCallback {
     */
    @Override
    public void nextHouseCard(PokerCard card, BlackEngine engine) {
-      logger.log(Level.FINE, String.format("Card Dealt to House .. %s",
-            card.toString()));
+      if (logger.isLoggable(Level.FINE)) {
+         logger.log(Level.FINE, String.format("Card Dealt to House .. %s",
+               card.toString()));
+      }
    }
 
    /**
@@ -112,8 +120,10 @@ public class BlackEngineCallbackImpl implements BlackEngineCallback {
     */
    @Override
    public void houseBustCard(PokerCard card, BlackEngine engine) {
-      logger.log(Level.FINE, String.format("Card Dealt to House .. %s ... HOUSE BUSTED!",
-            card.toString()));
+      if (logger.isLoggable(Level.FINE)) {
+         logger.log(Level.FINE, String.format("Card Dealt to House .. %s ... HOUSE BUSTED!",
+               card.toString()));
+      }
    }
 
    /**
@@ -137,13 +147,16 @@ public class BlackEngineCallbackImpl implements BlackEngineCallback {
     */
    @Override
    public void houseResult(int result, BlackEngine engine) {
-      // final results logged at Level.INFO
+      // final results logged at Level.INFO, nothing is formatted unless it will be logged
+      if (!logger.isLoggable(Level.INFO)) {
+         return;
+      }
       logger.log(Level.INFO, String.format("House, final result=%d", result));
 
       // Summarise player totals
       StringBuilder results = new StringBuilder();
       for (Player player : engine.getAllPersons()) {
-         results.append(String.format("%s%n", player.toString()));
+         results.append(player.toString()).append(System.lineSeparator());
       }
 
       logger.log(Level.INFO, String.format("Final Player Results%n%s", results.toString()));
@@ -0,0 +1,163 @@
+package view;
+
+import model.interfaces.BlackEngine;
+import model.interfaces.Player;
+import model.interfaces.PokerCard;
+import util.logging.AsyncBatchingHandler;
+import view.interfaces.BlackEngineCallback;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * High throughput version of {@link BlackEngineCallbackImpl} for busy tables.
+ * <p>
+ * Each method checks the level before doing anything, and logs a message pattern with its
+ * parameters rather than a formatted String: formatting is left to the handler's formatter, which
+ * with an {@link AsyncBatchingHandler} runs on the writer thread. Parameters are values that won't
+ * change (names, the shared card instances, and a copy of the player results for
+ * {@link #houseResult(int, BlackEngine)}) so the message is the same whenever it is formatted.
+ */
+public class LoggingBlackEngineCallback implements BlackEngineCallback, AutoCloseable {
+   private static final String CLASS_NAME = LoggingBlackEngineCallback.class.getName();
+
+   private final Logger logger;
+   private final AsyncBatchingHandler handler;
+
+   /**
+    * Logs through an existing logger, which is left configured as it is
+    *
+    * @param logger logger to log to
+    */
+   public LoggingBlackEngineCallback(Logger logger) {
+      this.logger = logger;
+      this.handler = null;
+   }
+
+   /**
+    * Logs to rotating files, written in batches on a background thread
+    *
+    * @param pattern file name pattern, see {@link FileHandler}
+    * @param limit   approximate maximum bytes per file
+    * @param count   number of files to rotate through
+    * @param level   level to log at, e.g. INFO for results only or FINE for every card
+    *
+    * @throws IOException if the log file can't be opened
+    */
+   public LoggingBlackEngineCallback(String pattern, int limit, int count, Level level) throws IOException {
+      FileHandler file = new FileHandler(pattern, limit, count, true);
+      file.setFormatter(new SimpleFormatter());
+      file.setLevel(level);
+      this.handler = new AsyncBatchingHandler(file);
+      handler.setLevel(level);
+      this.logger = Logger.getAnonymousLogger();
+      logger.setUseParentHandlers(false);
+      logger.addHandler(handler);
+      logger.setLevel(level);
+   }
+
+   public Logger getLogger() {
+      return logger;
+   }
+
+   @Override
+   public void nextCard(Player player, PokerCard card, BlackEngine engine) {
+      if (logger.isLoggable(Level.FINE)) {
+         logger.logp(Level.FINE, CLASS_NAME, "nextCard", "Card Dealt to {0} .. {1}",
+               new Object[]{player.getPersonName(), card});
+      }
+   }
+
+   @Override
+   public void bustCard(Player player, PokerCard card, BlackEngine engine) {
+      if (logger.isLoggable(Level.FINE)) {
+         logger.logp(Level.FINE, CLASS_NAME, "bustCard", "Card Dealt to {0} .. {1} ... YOU BUSTED!",
+               new Object[]{player.getPersonName(), card});
+      }
+   }
+
+   @Override
+   public void result(Player player, int result, BlackEngine engine) {
+      if (logger.isLoggable(Level.INFO)) {
+         logger.logp(Level.INFO, CLASS_NAME, "result", "{0}, final result={1}",
+               new Object[]{player.getPersonName(), result});
+      }
+   }
+
+   @Override
+   public void nextHouseCard(PokerCard card, BlackEngine engine) {
+      if (logger.isLoggable(Level.FINE)) {
+         logger.logp(Level.FINE, CLASS_NAME, "nextHouseCard", "Card Dealt to House .. {0}", card);
+      }
+   }
+
+   @Override
+   public void houseBustCard(PokerCard card, BlackEngine engine) {
+      if (logger.isLoggable(Level.FINE)) {
+         logger.logp(Level.FINE, CLASS_NAME, "houseBustCard", "Card Dealt to House .. {0} ... HOUSE BUSTED!", card);
+      }
+   }
+
+   @Override
+   public void houseResult(int result, BlackEngine engine) {
+      if (logger.isLoggable(Level.INFO)) {
+         logger.logp(Level.INFO, CLASS_NAME, "houseResult", "House, final result={0}", result);
+         logger.logp(Level.INFO, CLASS_NAME, "houseResult", "Final Player Results{0}",
+               new PlayerResults(engine.getAllPersons()));
+      }
+   }
+
+   /**
+    * Flushes and closes the log file, if this callback opened one
+    */
+   @Override
+   public void close() {
+      if (handler != null) {
+         logger.removeHandler(handler);
+         handler.close();
+      }
+   }
+
+   /**
+    * Copy of every player's state at the end of a round, formatted (in the style of
+    * {@link model.SimplePerson#toString()}) only when the record is written
+    */
+   private static final class PlayerResults {
+      private final String[] ids;
+      private final String[] names;
+      private final int[] values;
+
+      PlayerResults(Collection<Player> players) {
+         ids = new String[players.size()];
+         names = new String[players.size()];
+         values = new int[players.size() * 3];
+         int i = 0;
+         for (Player player : players) {
+            ids[i] = player.getPersonId();
+            names[i] = player.getPersonName();
+            values[i * 3] = player.getBet();
+            values[i * 3 + 1] = player.getPoints();
+            values[i * 3 + 2] = player.getResult();
+            i++;
+         }
+      }
+
+      @Override
+      public String toString() {
+         StringBuilder s = new StringBuilder();
+         for (int i = 0; i < ids.length; i++) {
+            s.append(System.lineSeparator())
+                  .append("Player: id=\"").append(ids[i])
+                  .append("\", name=\"").append(names[i])
+                  .append("\", bet=").append(values[i * 3])
+                  .append(", points=").append(values[i * 3 + 1])
+                  .append(", RESULT .. ").append(values[i * 3 + 2]);
+         }
+         return s.toString();
+      }
+   }
+}
@@ -1,8 +1,11 @@
 package controller;
 
 import controller.app.*;
+import model.BlackEngineGuiDecor;
 import model.interfaces.BlackEngine;
 import model.interfaces.Player;
+import model.management.ManagedTable;
+import model.management.TableManagement;
 import view.AppView;
 
 import java.util.concurrent.Executor;
@@ -23,7 +26,13 @@ public class FatController {
 
       // Create a single threaded Executor, which is much better for queuing stuff in another thread
       // **without** having multiple things happen at once.
-      executor = Executors.newSingleThreadExecutor();
+      executor = model instanceof BlackEngineGuiDecor
+            ? ((BlackEngineGuiDecor) model).getExecutor()
+            : Executors.newSingleThreadExecutor();
+      // lets operations inspect, pause and drain the table over JMX (e.g. with jconsole)
+      if (model instanceof ManagedTable) {
+         TableManagement.register("Ultimate", (ManagedTable) model);
+      }
       initView();
       initController();
    }
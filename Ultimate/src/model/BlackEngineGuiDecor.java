@@ -2,6 +2,11 @@ package model;
 
 import model.interfaces.BlackEngine;
 import model.interfaces.Player;
+import model.management.DealGate;
+import model.management.ManagedTable;
+import model.management.TableManagement;
+import model.management.TableMonitor;
+import model.management.TableSnapshot;
 import view.AppView;
 
 import javax.swing.Timer;
@@ -9,11 +14,15 @@ import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 
 // Item 18: Favor composition over inheritance [Bloch17]
 // Wrapper class - uses composition in place of inheritance
-public class BlackEngineGuiDecor extends ForwardingBlackEngine {
+public class BlackEngineGuiDecor extends ForwardingBlackEngine implements ManagedTable {
 
 
    /**
@@ -37,9 +46,43 @@ public class BlackEngineGuiDecor extends ForwardingBlackEngine {
    private final Set<Player> playersDealt = new HashSet<>();
    private final Set<Player> playersFinished = new HashSet<>();
    private AppView appView = null;
+   // single threaded, like Executors.newSingleThreadExecutor(), but the queue depth can be read
+   private final ThreadPoolExecutor executor =
+         new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>());
+   // cached state and pause/drain control for TableManagement (JMX)
+   private final TableMonitor monitor = new TableMonitor();
+   private final DealGate dealGate = new DealGate();
 
    public BlackEngineGuiDecor(BlackEngine gameEngine) {
       super(gameEngine);
+      super.addBlackEngineCallback(monitor);
+      monitor.refresh(getAllPersons());
+   }
+
+   /**
+    * Waits while dealing is paused through {@link TableManagement}
+    */
+   @Override
+   public void dealPerson(Player player, int delay) throws IllegalArgumentException {
+      dealGate.enter();
+      try {
+         super.dealPerson(player, delay);
+      } finally {
+         dealGate.exit();
+      }
+   }
+
+   /**
+    * Waits while dealing is paused through {@link TableManagement}
+    */
+   @Override
+   public void dealHouse(int delay) throws IllegalArgumentException {
+      dealGate.enter();
+      try {
+         super.dealHouse(delay);
+      } finally {
+         dealGate.exit();
+      }
    }
 
    /**
@@ -54,6 +97,7 @@ public class BlackEngineGuiDecor extends ForwardingBlackEngine {
       // add special sauce
       sortedPersons.add(player);
       indexPersons();
+      monitor.refresh(getAllPersons());
       appView.onNewPerson(player);
    }
 
@@ -65,6 +109,7 @@ public class BlackEngineGuiDecor extends ForwardingBlackEngine {
    @Override
    public boolean removePerson(Player player) {
       boolean result = super.removePerson(player);
+      monitor.refresh(getAllPersons());
       // add special sauce
       int playerIndex = getPersonIndex(player);
       if (playerIndex < 1) {
@@ -102,6 +147,7 @@ public class BlackEngineGuiDecor extends ForwardingBlackEngine {
    @Override
    public boolean placeBet(Player player, int bet) {
       boolean result = super.placeBet(player, bet);
+      monitor.refresh(getAllPersons());
       // add special sauce
       appView.onBetPlaced(player);
       return result;
@@ -117,6 +163,28 @@ public class BlackEngineGuiDecor extends ForwardingBlackEngine {
       this.appView = appView;
    }
 
+   /**
+    * @return the single threaded executor deals are queued on
+    */
+   public Executor getExecutor() {
+      return executor;
+   }
+
+   @Override
+   public TableSnapshot getSnapshot() {
+      return monitor.getSnapshot();
+   }
+
+   @Override
+   public DealGate getDealGate() {
+      return dealGate;
+   }
+
+   @Override
+   public int getQueueDepth() {
+      return TableManagement.queueDepth(executor);
+   }
+
    public int getPersonIndex(Player player) {
       int index = -1;
       try {